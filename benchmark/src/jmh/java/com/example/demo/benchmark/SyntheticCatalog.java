@@ -0,0 +1,213 @@
+package com.example.demo.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.example.demo.benefit.application.dto.ChannelType;
+import com.example.demo.benefit.catalog.BenefitCatalog;
+import com.example.demo.benefit.catalog.BenefitCatalogLoader;
+import com.example.demo.benefit.catalog.BenefitCatalogSnapshot;
+import com.example.demo.benefit.catalog.CatalogBenefit;
+import com.example.demo.benefit.entity.Benefit;
+import com.example.demo.benefit.entity.CashbackBenefit;
+import com.example.demo.benefit.entity.DiscountBenefit;
+import com.example.demo.benefit.entity.PointBenefit;
+import com.example.demo.benefit.util.BenefitConverter;
+import com.example.demo.card.entity.Card;
+import com.example.demo.store.dto.KakaoPlace;
+
+/**
+ * 벤치마크용 합성 카드 카탈로그
+ * 카드 수만 바꿔 같은 분포(카드당 혜택 수, 브랜드/카테고리/채널 비율)로 생성하고,
+ * 시드를 고정해 실행마다 같은 데이터를 만든다.
+ */
+public final class SyntheticCatalog {
+
+    public static final String[] CATEGORY_CODES = {
+            "MT1", "CS2", "PS3", "SC4", "AC5", "PK6", "OL7", "SW8", "BK9",
+            "CT1", "AG2", "PO3", "AT4", "AD5", "FD6", "CE7", "HP8", "PM9"
+    };
+
+    private static final String[] BRAND_PREFIXES = {
+            "스타벅스", "투썸플레이스", "이디야커피", "메가커피", "빽다방", "GS25", "CU", "세븐일레븐",
+            "이마트", "홈플러스", "롯데마트", "올리브영", "다이소", "맥도날드", "버거킹", "배스킨라빈스",
+            "파리바게뜨", "뚜레쥬르", "CGV", "메가박스", "쿠팡", "11번가", "G마켓", "SK주유소"
+    };
+
+    private static final String[] BRANCHES = {"강남역점", "홍대입구점", "잠실점", "서울역점", "판교점", "광화문점"};
+
+    private static final int BENEFITS_PER_CARD = 3;
+    private static final int BRAND_COUNT = 2_000;
+
+    private final List<Card> cards;
+    private final List<Benefit> benefits;
+    private final List<String> brands;
+    private final long seed;
+
+    private SyntheticCatalog(List<Card> cards, List<Benefit> benefits, List<String> brands, long seed) {
+        this.cards = cards;
+        this.benefits = benefits;
+        this.brands = brands;
+        this.seed = seed;
+    }
+
+    public static SyntheticCatalog generate(int cardCount) {
+        long seed = 42L;
+        Random random = new Random(seed);
+
+        List<String> brands = new ArrayList<>(BRAND_COUNT);
+        for (int i = 0; i < BRAND_COUNT; i++) {
+            String prefix = BRAND_PREFIXES[i % BRAND_PREFIXES.length];
+            brands.add(i < BRAND_PREFIXES.length ? prefix : prefix + (i / BRAND_PREFIXES.length));
+        }
+
+        List<Card> cards = new ArrayList<>(cardCount);
+        List<Benefit> benefits = new ArrayList<>(cardCount * BENEFITS_PER_CARD);
+        long benefitId = 1L;
+
+        for (long cardId = 1; cardId <= cardCount; cardId++) {
+            List<Benefit> cardBenefits = new ArrayList<>(BENEFITS_PER_CARD);
+            Card card = Card.builder()
+                    .id(cardId)
+                    .cardName("벤치카드" + cardId)
+                    .cardBank("벤치은행" + (cardId % 10))
+                    .imgUrl("https://example.com/cards/" + cardId + ".png")
+                    .type(cardId % 2 == 0 ? "CREDIT" : "CHECK")
+                    .benefits(cardBenefits)
+                    .externalId(cardId)
+                    .build();
+
+            for (int i = 0; i < BENEFITS_PER_CARD; i++) {
+                Benefit benefit = createBenefit(random, card, benefitId++, brands);
+                cardBenefits.add(benefit);
+                benefits.add(benefit);
+            }
+            cards.add(card);
+        }
+
+        return new SyntheticCatalog(cards, benefits, brands, seed);
+    }
+
+    private static Benefit createBenefit(Random random, Card card, long benefitId, List<String> brands) {
+        // 혜택 절반은 브랜드 대상, 나머지는 카테고리 대상
+        List<String> targets = new ArrayList<>();
+        List<String> categories = new ArrayList<>();
+        if (random.nextBoolean()) {
+            targets.add(brands.get(random.nextInt(brands.size())));
+        } else {
+            categories.add(CATEGORY_CODES[random.nextInt(CATEGORY_CODES.length)]);
+        }
+
+        Benefit benefit = Benefit.builder()
+                .cardId(card)
+                .applicableCategory(categories)
+                .applicableTargets(targets)
+                .externalId(benefitId)
+                .build();
+        setId(benefit, benefitId);
+
+        ChannelType channel = ChannelType.values()[random.nextInt(ChannelType.values().length)];
+        switch (random.nextInt(3)) {
+            case 0 -> benefit.getDiscountBenefits().add(DiscountBenefit.builder()
+                    .rate(0.05 + random.nextInt(10) / 100.0)
+                    .amount(random.nextInt(5) * 1000)
+                    .minimumAmount(random.nextInt(3) * 10000)
+                    .benefitLimit(10000 + random.nextInt(4) * 10000)
+                    .channel(channel)
+                    .benefit(benefit)
+                    .build());
+            case 1 -> benefit.getPointBenefits().add(PointBenefit.builder()
+                    .rate(0.01 + random.nextInt(5) / 100.0)
+                    .minimumAmount(random.nextInt(3) * 10000L)
+                    .benefitLimit(5000L + random.nextInt(4) * 5000L)
+                    .channel(channel)
+                    .benefit(benefit)
+                    .build());
+            default -> benefit.getCashbackBenefits().add(CashbackBenefit.builder()
+                    .rate(0.02 + random.nextInt(5) / 100.0)
+                    .amount(random.nextInt(3) * 500)
+                    .minimumAmount(random.nextInt(3) * 10000L)
+                    .benefitLimit(5000L + random.nextInt(4) * 5000L)
+                    .channel(channel)
+                    .benefit(benefit)
+                    .build());
+        }
+        return benefit;
+    }
+
+    /**
+     * 같은 데이터로 만든 카탈로그 스냅샷 (BenefitCatalogLoader 와 같은 방식으로 변환)
+     */
+    public BenefitCatalogSnapshot toSnapshot(long version) {
+        BenefitConverter converter = new BenefitConverter();
+        BenefitCatalogSnapshot.Builder builder = BenefitCatalogSnapshot.builder();
+
+        for (Benefit benefit : benefits) {
+            Long benefitId = benefit.getId();
+            builder.addCard(benefitId, benefit.getCardId().getId());
+            benefit.getApplicableTargets().forEach(target -> builder.addTarget(benefitId, target));
+            builder.addBenefit(new CatalogBenefit(
+                    benefitId,
+                    benefit.getDiscountBenefits().stream().map(converter::toDiscountDTO).toList(),
+                    benefit.getPointBenefits().stream().map(converter::toPointDTO).toList(),
+                    benefit.getCashbackBenefits().stream().map(converter::toCashbackDTO).toList(),
+                    List.copyOf(benefit.getApplicableCategory()),
+                    List.copyOf(benefit.getApplicableTargets())
+            ));
+        }
+        return builder.build(version);
+    }
+
+    /**
+     * DB 없이 합성 스냅샷을 들고 있는 카탈로그
+     */
+    public BenefitCatalog toBenefitCatalog() {
+        BenefitCatalogLoader loader = new BenefitCatalogLoader(null, null, null, null, null, null) {
+            @Override
+            public BenefitCatalogSnapshot load(long version) {
+                return toSnapshot(version);
+            }
+        };
+        BenefitCatalog catalog = new BenefitCatalog(loader, event -> { });
+        catalog.refresh();
+        return catalog;
+    }
+
+    /**
+     * 지도 화면 한 번에 보이는 정도의 카카오 장소 응답 (지점명이 붙은 매장명)
+     */
+    public List<KakaoPlace> kakaoPlaces(int count) {
+        Random random = new Random(seed + count);
+        List<KakaoPlace> places = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            places.add(new KakaoPlace(
+                    String.valueOf(100000 + i),
+                    brands.get(random.nextInt(brands.size())) + " " + BRANCHES[i % BRANCHES.length],
+                    CATEGORY_CODES[random.nextInt(CATEGORY_CODES.length)],
+                    127.0 + random.nextDouble() / 10,
+                    37.5 + random.nextDouble() / 10,
+                    random.nextInt(2000)));
+        }
+        return places;
+    }
+
+    public List<Card> getCards() {
+        return cards;
+    }
+
+    public List<Benefit> getBenefits() {
+        return benefits;
+    }
+
+    private static void setId(Benefit benefit, long id) {
+        try {
+            Field field = Benefit.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(benefit, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Benefit ID 설정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.benefit.util;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.benchmark.SyntheticCatalog;
+import com.example.demo.benefit.dto.BenefitDetailDTO;
+import com.example.demo.benefit.entity.Benefit;
+import com.example.demo.card.entity.Card;
+
+/**
+ * 혜택 엔티티 -> 응답 DTO 변환
+ * - 카드 한 장 단위 변환 (요청당 반복되는 경로)
+ * - 카탈로그 전체 변환 (카드 수에 따른 증가 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BenefitConverterBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int cardCount;
+
+    private BenefitConverter benefitConverter;
+    private List<Benefit> allBenefits;
+    private List<Card> cards;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCatalog catalog = SyntheticCatalog.generate(cardCount);
+        benefitConverter = new BenefitConverter();
+        allBenefits = catalog.getBenefits();
+        cards = catalog.getCards();
+    }
+
+    @Benchmark
+    public BenefitDetailDTO convertAllBenefits() {
+        return benefitConverter.convertMultipleBenefitsToDTO(allBenefits);
+    }
+
+    @Benchmark
+    public int convertPerCard() {
+        int total = 0;
+        for (Card card : cards) {
+            total += benefitConverter.convertMultipleBenefitsToDTO(card.getBenefits()).discounts().size();
+        }
+        return total;
+    }
+}
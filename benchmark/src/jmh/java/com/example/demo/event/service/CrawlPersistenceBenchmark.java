@@ -0,0 +1,161 @@
+package com.example.demo.event.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.demo.benefit.application.dto.ChannelType;
+import com.example.demo.benefit.entity.Benefit;
+import com.example.demo.benefit.entity.CashbackBenefit;
+import com.example.demo.benefit.entity.DiscountBenefit;
+import com.example.demo.benefit.entity.PointBenefit;
+import com.example.demo.card.entity.Card;
+import com.example.demo.card.entity.CardBenefit;
+
+/**
+ * 크롤링 적재 쓰기 처리량 (합성 혜택 50,000건: 카드 10,000 / 혜택 50,000 / 하위 혜택 50,000 / 카드-혜택 매핑 50,000)
+ *
+ * - identity: 배치 적용 전 설정 (IDENTITY 키, JDBC 배치 없음) - 행마다 INSERT 왕복
+ * - pooled: 현재 설정 (시퀀스 ID allocationSize 100, batch_size 100, order_inserts / order_updates)
+ *
+ * 한 번의 호출이 ROW_COUNT 개 행을 저장하므로 결과 ops 는 행 단위 (rows/s, gradle jmh 의 timeUnit 'us' 로 실행하면 rows/us)
+ * ./gradlew :benchmark:jmh -PjmhIncludes=CrawlPersistence
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CrawlPersistenceBenchmark {
+
+    private static final int CARD_COUNT = 10_000;
+    private static final int BENEFITS_PER_CARD = 5;
+    private static final int FLUSH_EVERY_CARDS = 500;
+
+    // 카드 + 혜택 + 하위 혜택 + 카드-혜택 매핑 + 적용 카테고리 / 대상 컬렉션 행
+    private static final int ROW_COUNT = CARD_COUNT + CARD_COUNT * BENEFITS_PER_CARD * 5;
+
+    @Param({"identity", "pooled"})
+    private String idMode;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(Card.class)
+                .addAnnotatedClass(CardBenefit.class)
+                .addAnnotatedClass(Benefit.class)
+                .addAnnotatedClass(DiscountBenefit.class)
+                .addAnnotatedClass(PointBenefit.class)
+                .addAnnotatedClass(CashbackBenefit.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:crawl-" + idMode + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.SHOW_SQL, "false");
+
+        if ("identity".equals(idMode)) {
+            configuration.addResource("identity-ids-orm.xml");
+        } else {
+            // application.yml 의 spring.jpa.properties.hibernate 와 같은 값
+            configuration.setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "100")
+                    .setProperty(AvailableSettings.BATCH_VERSIONED_DATA, "true")
+                    .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                    .setProperty(AvailableSettings.ORDER_UPDATES, "true");
+        }
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() {
+        sessionFactory.getSchemaManager().truncateMappedObjects();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROW_COUNT)
+    public int persistCrawl() {
+        int persisted = 0;
+        long benefitExternalId = 1L;
+
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+
+            for (long cardExternalId = 1; cardExternalId <= CARD_COUNT; cardExternalId++) {
+                Card card = Card.builder()
+                        .cardName("벤치카드" + cardExternalId)
+                        .cardBank("벤치은행" + (cardExternalId % 10))
+                        .imgUrl("https://example.com/cards/" + cardExternalId + ".png")
+                        .type(cardExternalId % 2 == 0 ? "CREDIT" : "CHECK")
+                        .externalId(cardExternalId)
+                        .build();
+                session.persist(card);
+
+                for (int i = 0; i < BENEFITS_PER_CARD; i++) {
+                    Benefit benefit = createBenefit(card, benefitExternalId++, i);
+                    session.persist(benefit);
+                    session.persist(CardBenefit.builder().card(card).benefit(benefit).build());
+                }
+                persisted += 1 + BENEFITS_PER_CARD;
+
+                // 크롤링 적재와 같이 영속성 컨텍스트를 주기적으로 비워 메모리 사용량을 일정하게 유지
+                if (cardExternalId % FLUSH_EVERY_CARDS == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        }
+        return persisted;
+    }
+
+    private static Benefit createBenefit(Card card, long externalId, int index) {
+        Benefit benefit = Benefit.builder()
+                .cardId(card)
+                .applicableCategory(new ArrayList<>(List.of("카페")))
+                .applicableTargets(new ArrayList<>(List.of("스타벅스")))
+                .externalId(externalId)
+                .build();
+
+        ChannelType channel = index % 2 == 0 ? ChannelType.OFFLINE : ChannelType.BOTH;
+        switch (index % 3) {
+            case 0 -> benefit.getDiscountBenefits().add(DiscountBenefit.builder()
+                    .rate(10).minimumAmount(10_000).benefitLimit(5_000)
+                    .channel(channel).benefit(benefit).externalId(externalId)
+                    .build());
+            case 1 -> benefit.getPointBenefits().add(PointBenefit.builder()
+                    .rate(1).minimumAmount(0).benefitLimit(10_000)
+                    .channel(channel).benefit(benefit).externalId(externalId)
+                    .build());
+            default -> benefit.getCashbackBenefits().add(CashbackBenefit.builder()
+                    .rate(5).minimumAmount(0).benefitLimit(3_000)
+                    .channel(channel).benefit(benefit).externalId(externalId)
+                    .build());
+        }
+        return benefit;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.expense.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 푸시 알림 텍스트 파싱 (장소 / 금액 정규식)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExpenseParsingBenchmark {
+
+    @Param({
+            "스타벅스 강남역점에서 12,500원 결제되었습니다",
+            "[Web발신] 신한카드(1234)승인 홍길동 45,000원 일시불 09/14 12:30 이마트 성수점에서 사용",
+            "결제 알림: 금액 정보 없음"
+    })
+    private String text;
+
+    private final ExpenseParsingService expenseParsingService = new ExpenseParsingService();
+
+    @Benchmark
+    public ExpenseParsingService.ParsedExpenseData parse() {
+        return expenseParsingService.parseExpenseText(text);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.store.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.benchmark.SyntheticCatalog;
+import com.example.demo.benefit.application.dto.ChannelType;
+import com.example.demo.benefit.catalog.BenefitCatalogSnapshot;
+import com.example.demo.card.entity.Card;
+
+/**
+ * 온라인 혜택 보유 카드 필터링 (OnlineStoreService.getOnlineCards 가 쓰는 BenefitCatalogSnapshot.cardSupportsChannel)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OnlineBenefitFilterBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int cardCount;
+
+    private BenefitCatalogSnapshot snapshot;
+    private List<Card> cards;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCatalog catalog = SyntheticCatalog.generate(cardCount);
+        snapshot = catalog.toSnapshot(1L);
+        cards = catalog.getCards();
+    }
+
+    @Benchmark
+    public int filterOnlineCards() {
+        int count = 0;
+        for (Card card : cards) {
+            if (snapshot.cardSupportsChannel(card.getId(), ChannelType.ONLINE)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.demo.store.service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.demo.benchmark.SyntheticCatalog;
+import com.example.demo.benefit.application.dto.ChannelType;
+import com.example.demo.card.entity.Card;
+import com.example.demo.store.dto.KakaoPlace;
+import com.example.demo.store.dto.StoreInfoDTO;
+
+/**
+ * 매장 목록 x 카드 혜택 매칭 (오프라인 / 온라인 채널)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreCardMatchingBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int cardCount;
+
+    @Param({"15"})
+    private int placeCount;
+
+    private StoreCardMatchingService storeCardMatchingService;
+    private List<Card> cards;
+    private List<KakaoPlace> places;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticCatalog catalog = SyntheticCatalog.generate(cardCount);
+        storeCardMatchingService = new StoreCardMatchingService(catalog.toBenefitCatalog());
+        cards = catalog.getCards();
+        places = catalog.kakaoPlaces(placeCount);
+    }
+
+    @Benchmark
+    public List<StoreInfoDTO> matchOffline() {
+        return storeCardMatchingService.matchStoresWithCards(places, cards);
+    }
+
+    @Benchmark
+    public List<StoreInfoDTO> matchOnline() {
+        return storeCardMatchingService.matchStoresWithCards(places, cards, ChannelType.ONLINE);
+    }
+}
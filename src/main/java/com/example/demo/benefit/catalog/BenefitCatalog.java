@@ -0,0 +1,77 @@
+package com.example.demo.benefit.catalog;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.event.BenefitCatalogRefreshedEvent;
+import com.example.demo.event.CardDataProcessedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인메모리 혜택 카탈로그
+ * 매칭 조회는 현재 스냅샷에 대한 해시 탐색으로 처리하고 (DB 락 없음),
+ * 크롤링 동기화가 끝날 때마다 새 버전의 스냅샷을 만들어 통째로 교체한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BenefitCatalog {
+
+    private final BenefitCatalogLoader benefitCatalogLoader;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile BenefitCatalogSnapshot snapshot = BenefitCatalogSnapshot.empty();
+
+    public BenefitCatalogSnapshot current() {
+        return snapshot;
+    }
+
+    /**
+     * 애플리케이션 기동 시 최초 카탈로그 로딩
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    /**
+     * 크롤링 데이터 동기화 커밋 이후 카탈로그 재생성
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleCardDataProcessed(CardDataProcessedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 새 스냅샷을 만든 뒤 참조만 교체 (읽는 쪽은 항상 완성된 스냅샷만 보게 됨)
+     * 재생성 중에도 읽기는 기존 버전으로 계속 처리되고, 실패 시 기존 버전을 유지
+     * 교체 후 BenefitCatalogRefreshedEvent 발행 (카탈로그 기반 캐시 무효화)
+     */
+    public synchronized void refresh() {
+        long startedAt = System.currentTimeMillis();
+
+        try {
+            BenefitCatalogSnapshot next = benefitCatalogLoader.load(snapshot.getVersion() + 1);
+            snapshot = next;
+
+            log.info("혜택 카탈로그 갱신 완료 - 버전: {}, 대상: {}개, 혜택: {}개, 소요: {}ms",
+                    next.getVersion(), next.targetCount(), next.benefitCount(), System.currentTimeMillis() - startedAt);
+
+            eventPublisher.publishEvent(BenefitCatalogRefreshedEvent.builder()
+                    .version(next.getVersion())
+                    .refreshedAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.error("혜택 카탈로그 갱신 실패 - 기존 스냅샷 유지", e);
+        }
+    }
+}
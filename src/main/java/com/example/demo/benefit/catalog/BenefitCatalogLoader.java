@@ -0,0 +1,104 @@
+package com.example.demo.benefit.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.benefit.application.dto.CashbackBenefitDTO;
+import com.example.demo.benefit.application.dto.DiscountBenefitDTO;
+import com.example.demo.benefit.application.dto.PointBenefitDTO;
+import com.example.demo.benefit.entity.Benefit;
+import com.example.demo.benefit.entity.CashbackBenefit;
+import com.example.demo.benefit.entity.DiscountBenefit;
+import com.example.demo.benefit.entity.PointBenefit;
+import com.example.demo.benefit.repository.BenefitRepository;
+import com.example.demo.benefit.repository.CashbackBenefitRepository;
+import com.example.demo.benefit.repository.DiscountBenefitRepository;
+import com.example.demo.benefit.repository.PointBenefitRepository;
+import com.example.demo.benefit.util.BenefitConverter;
+import com.example.demo.card.repository.CardBenefitRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class BenefitCatalogLoader {
+
+    private final BenefitRepository benefitRepository;
+    private final DiscountBenefitRepository discountBenefitRepository;
+    private final PointBenefitRepository pointBenefitRepository;
+    private final CashbackBenefitRepository cashbackBenefitRepository;
+    private final CardBenefitRepository cardBenefitRepository;
+    private final BenefitConverter benefitConverter;
+
+    /**
+     * DB 카탈로그 전체를 읽어 새 스냅샷 생성
+     *
+     * 락 없이 읽기 전용 트랜잭션 하나에서 테이블 단위로 조회한다.
+     * (MySQL InnoDB 기본 격리 수준에서는 트랜잭션 내 모든 조회가 같은 MVCC 스냅샷을 보므로
+     *  크롤링 동기화와 서로 막지 않으면서도 일관된 카탈로그가 만들어짐)
+     * 카드 연결은 Benefit.cardId 와 CardBenefit 매핑을 모두 반영
+     */
+    @Transactional(readOnly = true)
+    public BenefitCatalogSnapshot load(long version) {
+        Map<Long, List<String>> targetsByBenefit = groupValues(benefitRepository.findAllTargetRows());
+        Map<Long, List<String>> categoriesByBenefit = groupValues(benefitRepository.findAllCategoryRows());
+        Map<Long, List<DiscountBenefitDTO>> discountsByBenefit = groupByBenefit(
+                discountBenefitRepository.findAll(), DiscountBenefit::getBenefit, benefitConverter::toDiscountDTO);
+        Map<Long, List<PointBenefitDTO>> pointsByBenefit = groupByBenefit(
+                pointBenefitRepository.findAll(), PointBenefit::getBenefit, benefitConverter::toPointDTO);
+        Map<Long, List<CashbackBenefitDTO>> cashbacksByBenefit = groupByBenefit(
+                cashbackBenefitRepository.findAll(), CashbackBenefit::getBenefit, benefitConverter::toCashbackDTO);
+
+        BenefitCatalogSnapshot.Builder builder = BenefitCatalogSnapshot.builder();
+
+        // 혜택 한 건당 한 행 (직접 연결된 카드가 없으면 cardId 는 null)
+        for (CardBenefitLink link : benefitRepository.findAllCardLinks()) {
+            Long benefitId = link.benefitId();
+            List<String> targets = targetsByBenefit.getOrDefault(benefitId, List.of());
+
+            builder.addCard(benefitId, link.cardId());
+            targets.forEach(target -> builder.addTarget(benefitId, target));
+            builder.addBenefit(new CatalogBenefit(
+                    benefitId,
+                    List.copyOf(discountsByBenefit.getOrDefault(benefitId, List.of())),
+                    List.copyOf(pointsByBenefit.getOrDefault(benefitId, List.of())),
+                    List.copyOf(cashbacksByBenefit.getOrDefault(benefitId, List.of())),
+                    List.copyOf(categoriesByBenefit.getOrDefault(benefitId, List.of())),
+                    List.copyOf(targets)
+            ));
+        }
+
+        for (CardBenefitLink link : cardBenefitRepository.findAllLinks()) {
+            builder.addCard(link.benefitId(), link.cardId());
+        }
+
+        return builder.build(version);
+    }
+
+    private Map<Long, List<String>> groupValues(List<BenefitValueRow> rows) {
+        Map<Long, List<String>> grouped = new HashMap<>();
+        for (BenefitValueRow row : rows) {
+            if (row.value() != null) {
+                grouped.computeIfAbsent(row.benefitId(), key -> new ArrayList<>()).add(row.value());
+            }
+        }
+        return grouped;
+    }
+
+    private <E, D> Map<Long, List<D>> groupByBenefit(List<E> entities, Function<E, Benefit> benefitOf, Function<E, D> toDTO) {
+        Map<Long, List<D>> grouped = new HashMap<>();
+        for (E entity : entities) {
+            Benefit benefit = benefitOf.apply(entity);
+            if (benefit != null) {
+                grouped.computeIfAbsent(benefit.getId(), key -> new ArrayList<>()).add(toDTO.apply(entity));
+            }
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.demo.benefit.catalog;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.example.demo.benefit.application.dto.ChannelType;
+import com.example.demo.benefit.util.StoreNameNormalizer;
+
+/**
+ * 혜택 카탈로그 스냅샷 (불변 버전)
+ * - 정규화된 적용 대상 -> 혜택 ID -> 카드 ID 역색인
+ * - 적용 대상 전체를 컴파일한 매장명 매칭기 (Aho-Corasick)
+ * - 카드 ID -> 카테고리/채널 비트마스크로 컴파일된 카드별 매칭기 (카드 채널 기능 포함)
+ * - 혜택 ID -> 미리 변환된 혜택 내용, 예상 혜택 계산용 벡터
+ * 발행 이후에는 수정되지 않으므로 읽는 쪽은 락 없이 동시에 접근할 수 있고,
+ * 쓰는 쪽(크롤링 동기화)은 새 버전을 만들어 참조만 교체한다.
+ */
+public final class BenefitCatalogSnapshot {
+
+    private static final long[] NO_IDS = new long[0];
+
+    private final long version;
+    private final Map<String, long[]> benefitIdsByTarget;
+    private final Map<Long, long[]> cardIdsByBenefit;
+    private final Map<Long, CatalogBenefit> benefits;
+    private final Map<Long, BenefitRuleVector> ruleVectors;
+    private final MerchantMatcher merchantMatcher;
+    private final Map<Long, CardMatcher> cardMatchers;
+    private final LocalDateTime builtAt;
+
+    private BenefitCatalogSnapshot(long version,
+                                   Map<String, long[]> benefitIdsByTarget,
+                                   Map<Long, long[]> cardIdsByBenefit,
+                                   Map<Long, CatalogBenefit> benefits,
+                                   Map<Long, BenefitRuleVector> ruleVectors,
+                                   MerchantMatcher merchantMatcher,
+                                   Map<Long, CardMatcher> cardMatchers,
+                                   LocalDateTime builtAt) {
+        this.version = version;
+        this.benefitIdsByTarget = benefitIdsByTarget;
+        this.cardIdsByBenefit = cardIdsByBenefit;
+        this.benefits = benefits;
+        this.ruleVectors = ruleVectors;
+        this.merchantMatcher = merchantMatcher;
+        this.cardMatchers = cardMatchers;
+        this.builtAt = builtAt;
+    }
+
+    public static BenefitCatalogSnapshot empty() {
+        return new BenefitCatalogSnapshot(0L, Map.of(), Map.of(), Map.of(), Map.of(),
+                MerchantMatcher.compile(Map.of()), Map.of(), null);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 매장명에 적용 대상이 포함된 혜택 ID 조회
+     * ("스타벅스 강남역점" -> "스타벅스" 대상 혜택, 중복 없이 처음 발견된 순서)
+     */
+    public long[] findBenefitIds(String storeName) {
+        return merchantMatcher.match(storeName);
+    }
+
+    /**
+     * 적용 대상과 정확히 일치하는 혜택 ID 조회 (정규화 후 비교, 매장 ID / 브랜드명 단건 조회용)
+     */
+    public long[] findBenefitIdsByTarget(String target) {
+        return benefitIdsByTarget.getOrDefault(StoreNameNormalizer.normalize(target), NO_IDS);
+    }
+
+    /**
+     * 혜택이 연결된 카드 ID 조회
+     */
+    public long[] findCardIds(long benefitId) {
+        return cardIdsByBenefit.getOrDefault(benefitId, NO_IDS);
+    }
+
+    /**
+     * 혜택 내용 조회 (카탈로그에 없으면 null)
+     */
+    public CatalogBenefit getBenefit(long benefitId) {
+        return benefits.get(benefitId);
+    }
+
+    /**
+     * 예상 혜택 계산용 벡터 조회 (카탈로그에 없으면 null)
+     */
+    public BenefitRuleVector getRuleVector(long benefitId) {
+        return ruleVectors.get(benefitId);
+    }
+
+    /**
+     * 카드별 매장 매칭기 조회 (카탈로그에 혜택이 없는 카드면 null)
+     */
+    public CardMatcher getCardMatcher(long cardId) {
+        return cardMatchers.get(cardId);
+    }
+
+    /**
+     * 카드가 해당 채널 혜택을 가지는지 (스냅샷 생성 시 계산된 채널 기능 사용, 혜택 엔티티를 읽지 않음)
+     */
+    public boolean cardSupportsChannel(long cardId, ChannelType channelType) {
+        CardMatcher matcher = cardMatchers.get(cardId);
+        return matcher != null && matcher.supports(channelType);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int targetCount() {
+        return benefitIdsByTarget.size();
+    }
+
+    public int benefitCount() {
+        return benefits.size();
+    }
+
+    public LocalDateTime getBuiltAt() {
+        return builtAt;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Set<Long>> benefitIdsByTarget = new HashMap<>();
+        private final Map<Long, Set<Long>> cardIdsByBenefit = new HashMap<>();
+        private final Map<Long, CatalogBenefit> benefits = new HashMap<>();
+        private final Map<Long, BenefitRuleVector> ruleVectors = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder addTarget(Long benefitId, String target) {
+            String normalized = StoreNameNormalizer.normalize(target);
+            if (benefitId != null && !normalized.isEmpty()) {
+                benefitIdsByTarget.computeIfAbsent(normalized, key -> new LinkedHashSet<>()).add(benefitId);
+            }
+            return this;
+        }
+
+        public Builder addCard(Long benefitId, Long cardId) {
+            if (benefitId != null && cardId != null) {
+                cardIdsByBenefit.computeIfAbsent(benefitId, key -> new LinkedHashSet<>()).add(cardId);
+            }
+            return this;
+        }
+
+        public Builder addBenefit(CatalogBenefit benefit) {
+            benefits.put(benefit.benefitId(), benefit);
+            ruleVectors.put(benefit.benefitId(), BenefitRuleVector.from(benefit));
+            return this;
+        }
+
+        public BenefitCatalogSnapshot build(long version) {
+            Map<String, long[]> targets = new HashMap<>(benefitIdsByTarget.size() * 2);
+            benefitIdsByTarget.forEach((target, ids) -> targets.put(target, toArray(ids)));
+
+            Map<Long, long[]> cards = new HashMap<>(cardIdsByBenefit.size() * 2);
+            cardIdsByBenefit.forEach((benefitId, ids) -> cards.put(benefitId, toArray(ids)));
+
+            return new BenefitCatalogSnapshot(version, targets, cards,
+                    Map.copyOf(benefits), Map.copyOf(ruleVectors), MerchantMatcher.compile(targets),
+                    compileCardMatchers(), LocalDateTime.now());
+        }
+
+        private Map<Long, CardMatcher> compileCardMatchers() {
+            Map<Long, List<CatalogBenefit>> benefitsByCard = new HashMap<>();
+            cardIdsByBenefit.forEach((benefitId, cardIds) -> {
+                CatalogBenefit benefit = benefits.get(benefitId);
+                if (benefit == null) {
+                    return;
+                }
+                for (Long cardId : cardIds) {
+                    benefitsByCard.computeIfAbsent(cardId, key -> new ArrayList<>()).add(benefit);
+                }
+            });
+
+            Map<Long, CardMatcher> matchers = new HashMap<>(benefitsByCard.size() * 2);
+            benefitsByCard.forEach((cardId, cardBenefits) -> {
+                cardBenefits.sort(Comparator.comparing(CatalogBenefit::benefitId));
+                matchers.put(cardId, CardMatcher.compile(cardId, cardBenefits));
+            });
+            return matchers;
+        }
+
+        private static long[] toArray(Set<Long> ids) {
+            return ids.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.benefit.catalog;
+
+import com.example.demo.benefit.application.dto.CashbackBenefitDTO;
+import com.example.demo.benefit.application.dto.DiscountBenefitDTO;
+import com.example.demo.benefit.application.dto.PointBenefitDTO;
+
+/**
+ * 혜택 하나의 할인/포인트/캐시백 조건을 원시 타입 배열로 펼쳐 둔 점수 계산용 벡터
+ * 카탈로그 빌드 시 한 번 만들어지고, 결제 금액별 예상 혜택 계산은 이 배열만 순회한다.
+ */
+public final class BenefitRuleVector {
+
+    public static final byte DISCOUNT = 0;
+    public static final byte POINT = 1;
+    public static final byte CASHBACK = 2;
+
+    private static final String[] TYPE_NAMES = {"DISCOUNT", "POINT", "CASHBACK"};
+
+    private final byte[] types;
+    private final double[] rates;
+    private final double[] amounts;
+    private final double[] minimumAmounts;
+    private final double[] benefitLimits;
+
+    private BenefitRuleVector(int size) {
+        this.types = new byte[size];
+        this.rates = new double[size];
+        this.amounts = new double[size];
+        this.minimumAmounts = new double[size];
+        this.benefitLimits = new double[size];
+    }
+
+    public static BenefitRuleVector from(CatalogBenefit benefit) {
+        BenefitRuleVector vector = new BenefitRuleVector(
+                benefit.discounts().size() + benefit.points().size() + benefit.cashbacks().size());
+
+        int index = 0;
+        for (DiscountBenefitDTO discount : benefit.discounts()) {
+            vector.set(index++, DISCOUNT, discount.rate(), discount.amount(), discount.minimumAmount(), discount.benefitLimit());
+        }
+        for (PointBenefitDTO point : benefit.points()) {
+            vector.set(index++, POINT, point.rate(), 0, point.minimumAmount(), point.benefitLimit());
+        }
+        for (CashbackBenefitDTO cashback : benefit.cashbacks()) {
+            vector.set(index++, CASHBACK, cashback.rate(), cashback.amount(), cashback.minimumAmount(), cashback.benefitLimit());
+        }
+        return vector;
+    }
+
+    public static String typeName(byte type) {
+        return TYPE_NAMES[type];
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    public byte type(int index) {
+        return types[index];
+    }
+
+    public double rate(int index) {
+        return rates[index];
+    }
+
+    public double amount(int index) {
+        return amounts[index];
+    }
+
+    public double minimumAmount(int index) {
+        return minimumAmounts[index];
+    }
+
+    /**
+     * 0 이면 한도 없음
+     */
+    public double benefitLimit(int index) {
+        return benefitLimits[index];
+    }
+
+    private void set(int index, byte type, double rate, double amount, double minimumAmount, double benefitLimit) {
+        types[index] = type;
+        rates[index] = rate;
+        amounts[index] = amount;
+        minimumAmounts[index] = minimumAmount;
+        benefitLimits[index] = benefitLimit;
+    }
+}
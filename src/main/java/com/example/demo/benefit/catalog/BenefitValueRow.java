@@ -0,0 +1,9 @@
+package com.example.demo.benefit.catalog;
+
+/**
+ * 카탈로그 빌드용 프로젝션 (혜택 ID, 적용 대상 또는 적용 카테고리 값)
+ */
+public record BenefitValueRow(
+    Long benefitId,
+    String value
+) {}
@@ -0,0 +1,9 @@
+package com.example.demo.benefit.catalog;
+
+/**
+ * 카탈로그 빌드용 프로젝션 (카드-혜택 매핑)
+ */
+public record CardBenefitLink(
+    Long cardId,
+    Long benefitId
+) {}
@@ -0,0 +1,222 @@
+package com.example.demo.benefit.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.benefit.application.dto.CashbackBenefitDTO;
+import com.example.demo.benefit.application.dto.ChannelType;
+import com.example.demo.benefit.application.dto.DiscountBenefitDTO;
+import com.example.demo.benefit.application.dto.PointBenefitDTO;
+import com.example.demo.benefit.util.LongHashSet;
+import com.example.demo.store.dto.BenefitInfoDTO;
+
+/**
+ * 카드 한 장의 매장 매칭기 (카탈로그 스냅샷 생성 시 한 번 컴파일)
+ *
+ * 혜택별로 카테고리 비트마스크, 채널 마스크, 채널 조건별 BenefitInfoDTO 목록을 미리 만들어 두어
+ * 매장마다 반복되는 매칭은 비트 연산만 하고, 매칭되지 않는 혜택에는 객체를 만들지 않는다.
+ */
+public final class CardMatcher {
+
+    private static final int HAS_CATEGORY = 1;
+    private static final int HAS_TARGET = 2;
+
+    // 채널 조건 인덱스: 0 = 조건 없음, 1 + ChannelType.ordinal()
+    private static final int CHANNEL_SLOTS = ChannelType.values().length + 1;
+
+    private final long cardId;
+    private final long[] benefitIds;
+    private final int[] categoryMasks;
+    private final int[] conditions;
+    // 혜택이 만족하는 채널 조건 (1 << ChannelType.ordinal())
+    private final int[] channelMasks;
+    private final List<BenefitInfoDTO>[][] benefitInfos;
+    // 카드 전체 채널 기능 (혜택별 채널 마스크의 합집합)
+    private final int cardChannelMask;
+
+    private CardMatcher(long cardId, long[] benefitIds, int[] categoryMasks, int[] conditions,
+                        int[] channelMasks, List<BenefitInfoDTO>[][] benefitInfos) {
+        this.cardId = cardId;
+        this.benefitIds = benefitIds;
+        this.categoryMasks = categoryMasks;
+        this.conditions = conditions;
+        this.channelMasks = channelMasks;
+        this.benefitInfos = benefitInfos;
+
+        int cardMask = 0;
+        for (int channelMask : channelMasks) {
+            cardMask |= channelMask;
+        }
+        this.cardChannelMask = cardMask;
+    }
+
+    @SuppressWarnings("unchecked")
+    static CardMatcher compile(long cardId, List<CatalogBenefit> benefits) {
+        int size = benefits.size();
+        long[] benefitIds = new long[size];
+        int[] categoryMasks = new int[size];
+        int[] conditions = new int[size];
+        int[] channelMasks = new int[size];
+        List<BenefitInfoDTO>[][] benefitInfos = new List[size][];
+
+        for (int i = 0; i < size; i++) {
+            CatalogBenefit benefit = benefits.get(i);
+            benefitIds[i] = benefit.benefitId();
+            categoryMasks[i] = CategoryMask.of(benefit.applicableCategory());
+            conditions[i] = (benefit.applicableCategory().isEmpty() ? 0 : HAS_CATEGORY)
+                    | (benefit.applicableTargets().isEmpty() ? 0 : HAS_TARGET);
+
+            int channelMask = 0;
+            for (DiscountBenefitDTO discount : benefit.discounts()) {
+                channelMask |= acceptedChannels(discount.channel());
+            }
+            for (PointBenefitDTO point : benefit.points()) {
+                channelMask |= acceptedChannels(point.channel());
+            }
+            for (CashbackBenefitDTO cashback : benefit.cashbacks()) {
+                channelMask |= acceptedChannels(cashback.channel());
+            }
+            channelMasks[i] = channelMask;
+
+            benefitInfos[i] = new List[CHANNEL_SLOTS];
+            benefitInfos[i][0] = buildInfos(benefit, null);
+            for (ChannelType channelType : ChannelType.values()) {
+                benefitInfos[i][channelType.ordinal() + 1] = buildInfos(benefit, channelType);
+            }
+        }
+
+        return new CardMatcher(cardId, benefitIds, categoryMasks, conditions, channelMasks, benefitInfos);
+    }
+
+    /**
+     * 매장에 적용되는 혜택 정보 (없으면 빈 목록, 객체 생성 없음)
+     *
+     * @param categoryBit       매장 카테고리 비트 ({@link CategoryMask#bit(String)})
+     * @param matchedBenefitIds 매장명에 적용 대상이 포함된 혜택 ID
+     * @param channelType       채널 조건 (null 이면 조건 없음)
+     */
+    public List<BenefitInfoDTO> match(int categoryBit, LongHashSet matchedBenefitIds, ChannelType channelType) {
+        int channelBit = channelType != null ? 1 << channelType.ordinal() : 0;
+        int slot = channelType != null ? channelType.ordinal() + 1 : 0;
+
+        List<BenefitInfoDTO> first = null;
+        List<BenefitInfoDTO> merged = null;
+
+        for (int i = 0; i < benefitIds.length; i++) {
+            if (channelBit != 0 && (channelMasks[i] & channelBit) == 0) {
+                continue;
+            }
+            if (!isApplicable(i, categoryBit, matchedBenefitIds)) {
+                continue;
+            }
+
+            List<BenefitInfoDTO> infos = benefitInfos[i][slot];
+            if (infos.isEmpty()) {
+                continue;
+            }
+            if (first == null) {
+                first = infos;
+            } else {
+                if (merged == null) {
+                    merged = new ArrayList<>(first);
+                }
+                merged.addAll(infos);
+            }
+        }
+
+        if (merged != null) {
+            return merged;
+        }
+        return first != null ? first : List.of();
+    }
+
+    /**
+     * 카테고리/적용 대상 조건이 없는 혜택은 모든 매장에 적용,
+     * 조건이 있으면 카테고리가 일치하거나 매장명에 적용 대상이 포함된 경우에만 적용
+     */
+    private boolean isApplicable(int index, int categoryBit, LongHashSet matchedBenefitIds) {
+        int condition = conditions[index];
+        if (condition == 0) {
+            return true;
+        }
+        if ((condition & HAS_CATEGORY) != 0 && (categoryMasks[index] & categoryBit) != 0) {
+            return true;
+        }
+        return (condition & HAS_TARGET) != 0 && matchedBenefitIds.contains(benefitIds[index]);
+    }
+
+    public long getCardId() {
+        return cardId;
+    }
+
+    public int benefitCount() {
+        return benefitIds.length;
+    }
+
+    /**
+     * 해당 채널에서 사용할 수 있는 혜택이 하나라도 있는지 (null 이면 항상 true)
+     * 채널이 BOTH 인 하위 혜택은 ONLINE / OFFLINE 모두 만족
+     */
+    public boolean supports(ChannelType channelType) {
+        return channelType == null || (cardChannelMask & (1 << channelType.ordinal())) != 0;
+    }
+
+    /**
+     * 하위 혜택 채널이 만족하는 요청 채널 (요청 채널과 같거나 BOTH 이면 만족)
+     */
+    private static int acceptedChannels(ChannelType channel) {
+        if (channel == null) {
+            return 0;
+        }
+        if (channel == ChannelType.BOTH) {
+            int all = 0;
+            for (ChannelType requested : ChannelType.values()) {
+                all |= 1 << requested.ordinal();
+            }
+            return all;
+        }
+        return 1 << channel.ordinal();
+    }
+
+    private static boolean accepts(ChannelType channel, ChannelType requested) {
+        return requested == null || channel == requested || channel == ChannelType.BOTH;
+    }
+
+    private static List<BenefitInfoDTO> buildInfos(CatalogBenefit benefit, ChannelType requested) {
+        List<BenefitInfoDTO> infos = new ArrayList<>();
+
+        for (DiscountBenefitDTO discount : benefit.discounts()) {
+            if (accepts(discount.channel(), requested)) {
+                infos.add(BenefitInfoDTO.builder()
+                        .benefitId(benefit.benefitId())
+                        .benefitType("DISCOUNT")
+                        .rate(discount.rate())
+                        .amount(discount.amount())
+                        .build());
+            }
+        }
+
+        for (PointBenefitDTO point : benefit.points()) {
+            if (accepts(point.channel(), requested)) {
+                infos.add(BenefitInfoDTO.builder()
+                        .benefitId(benefit.benefitId())
+                        .benefitType("POINT")
+                        .rate(point.rate())
+                        .build());
+            }
+        }
+
+        for (CashbackBenefitDTO cashback : benefit.cashbacks()) {
+            if (accepts(cashback.channel(), requested)) {
+                infos.add(BenefitInfoDTO.builder()
+                        .benefitId(benefit.benefitId())
+                        .benefitType("CASHBACK")
+                        .rate(cashback.rate())
+                        .amount(cashback.amount())
+                        .build());
+            }
+        }
+
+        return List.copyOf(infos);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.demo.benefit.catalog;
+
+import java.util.List;
+
+import com.example.demo.benefit.application.dto.CashbackBenefitDTO;
+import com.example.demo.benefit.application.dto.DiscountBenefitDTO;
+import com.example.demo.benefit.application.dto.PointBenefitDTO;
+
+/**
+ * 카탈로그 스냅샷에 담기는 혜택 (엔티티를 미리 DTO로 변환해 둔 불변 값)
+ */
+public record CatalogBenefit(
+    Long benefitId,
+    List<DiscountBenefitDTO> discounts,
+    List<PointBenefitDTO> points,
+    List<CashbackBenefitDTO> cashbacks,
+    List<String> applicableCategory,
+    List<String> applicableTargets
+) {}
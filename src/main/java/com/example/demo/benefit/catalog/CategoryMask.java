@@ -0,0 +1,53 @@
+package com.example.demo.benefit.catalog;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 카카오 장소 카테고리 그룹 코드 비트마스크
+ * 혜택의 적용 카테고리 목록을 int 하나로 압축해 매장 카테고리 확인을 비트 연산으로 처리
+ */
+public final class CategoryMask {
+
+    private static final String[] CODES = {
+            "MT1", "CS2", "PS3", "SC4", "AC5", "PK6", "OL7", "SW8", "BK9",
+            "CT1", "AG2", "PO3", "AT4", "AD5", "FD6", "CE7", "HP8", "PM9"
+    };
+
+    private static final Map<String, Integer> BITS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < CODES.length; i++) {
+            BITS.put(CODES[i], 1 << i);
+        }
+    }
+
+    private CategoryMask() {
+    }
+
+    /**
+     * 카테고리 코드의 비트 (카카오 코드가 아니면 0)
+     */
+    public static int bit(String categoryCode) {
+        if (categoryCode == null) {
+            return 0;
+        }
+        return BITS.getOrDefault(categoryCode, 0);
+    }
+
+    /**
+     * 카카오 카테고리 그룹 코드인지
+     */
+    public static boolean isKnown(String categoryCode) {
+        return bit(categoryCode) != 0;
+    }
+
+    public static int of(Collection<String> categoryCodes) {
+        int mask = 0;
+        for (String code : categoryCodes) {
+            mask |= bit(code);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.demo.benefit.catalog;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.example.demo.benefit.util.LongHashSet;
+import com.example.demo.benefit.util.StoreNameNormalizer;
+
+/**
+ * 혜택 적용 대상(브랜드명) 다중 패턴 매칭기 (Aho-Corasick)
+ *
+ * "스타벅스 강남역점" 처럼 지점명이 붙은 매장명에서도 "스타벅스" 대상 혜택을 찾기 위해
+ * 모든 적용 대상을 오토마톤 하나로 컴파일해 두고 매장명을 한 번만 훑어 포함된 대상을 모두 찾는다.
+ * 매칭 비용은 대상 수와 무관하게 매장명 길이 + 매칭 수에 비례한다.
+ * 생성 후에는 수정되지 않으므로 스냅샷과 함께 여러 스레드에서 공유한다.
+ */
+final class MerchantMatcher {
+
+    private static final long[] NO_IDS = new long[0];
+    private static final int ROOT = 0;
+
+    // 노드별 전이 (문자 오름차순, 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 이 노드에서 끝나는 대상의 혜택 ID
+    private final long[][] outputs;
+    // 실패 링크를 따라 가장 가까운, 출력이 있는 노드 (-1 이면 없음)
+    private final int[] outputLink;
+
+    private MerchantMatcher(char[][] edgeChars, int[][] edgeTargets, int[] failure, long[][] outputs, int[] outputLink) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+        this.outputLink = outputLink;
+    }
+
+    /**
+     * 정규화된 적용 대상 -> 혜택 ID 목록으로 오토마톤 생성
+     */
+    static MerchantMatcher compile(Map<String, long[]> benefitIdsByTarget) {
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<long[]> nodeOutputs = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        nodeOutputs.add(NO_IDS);
+
+        // 1. 트라이 구성
+        for (Map.Entry<String, long[]> entry : benefitIdsByTarget.entrySet()) {
+            String target = entry.getKey();
+            if (target.isEmpty()) {
+                continue;
+            }
+
+            int node = ROOT;
+            for (int i = 0; i < target.length(); i++) {
+                Integer next = trie.get(node).get(target.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    nodeOutputs.add(NO_IDS);
+                    trie.get(node).put(target.charAt(i), next);
+                }
+                node = next;
+            }
+            nodeOutputs.set(node, concat(nodeOutputs.get(node), entry.getValue()));
+        }
+
+        int nodeCount = trie.size();
+        char[][] edgeChars = new char[nodeCount][];
+        int[][] edgeTargets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int index = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][index] = edge.getKey();
+                edgeTargets[node][index] = edge.getValue();
+                index++;
+            }
+        }
+
+        // 2. BFS 로 실패 링크 / 출력 링크 계산
+        int[] failure = new int[nodeCount];
+        int[] outputLink = new int[nodeCount];
+        Arrays.fill(outputLink, -1);
+
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int fallback = failure[node];
+                int next = transition(edgeChars, edgeTargets, fallback, c);
+                while (next < 0 && fallback != ROOT) {
+                    fallback = failure[fallback];
+                    next = transition(edgeChars, edgeTargets, fallback, c);
+                }
+                failure[child] = next >= 0 ? next : ROOT;
+
+                int suffix = failure[child];
+                outputLink[child] = nodeOutputs.get(suffix).length > 0 ? suffix : outputLink[suffix];
+                queue.add(child);
+            }
+        }
+
+        return new MerchantMatcher(edgeChars, edgeTargets, failure,
+                nodeOutputs.toArray(new long[0][]), outputLink);
+    }
+
+    /**
+     * 매장명에 포함된 모든 적용 대상의 혜택 ID (중복 제거, 처음 발견된 순서)
+     */
+    long[] match(String placeName) {
+        String text = StoreNameNormalizer.normalize(placeName);
+        if (text.isEmpty() || edgeChars[ROOT].length == 0) {
+            return NO_IDS;
+        }
+
+        LongHashSet seen = null;
+        long[] found = NO_IDS;
+        int foundCount = 0;
+
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next = transition(edgeChars, edgeTargets, node, c);
+            while (next < 0 && node != ROOT) {
+                node = failure[node];
+                next = transition(edgeChars, edgeTargets, node, c);
+            }
+            node = next >= 0 ? next : ROOT;
+
+            for (int hit = outputs[node].length > 0 ? node : outputLink[node]; hit >= 0; hit = outputLink[hit]) {
+                for (long benefitId : outputs[hit]) {
+                    if (seen == null) {
+                        seen = new LongHashSet(8);
+                    }
+                    if (seen.add(benefitId)) {
+                        if (foundCount == found.length) {
+                            found = Arrays.copyOf(found, Math.max(8, foundCount * 2));
+                        }
+                        found[foundCount++] = benefitId;
+                    }
+                }
+            }
+        }
+
+        return foundCount == 0 ? NO_IDS : Arrays.copyOf(found, foundCount);
+    }
+
+    int nodeCount() {
+        return edgeChars.length;
+    }
+
+    private static int transition(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    private static long[] concat(long[] left, long[] right) {
+        if (left.length == 0) {
+            return right;
+        }
+        long[] merged = Arrays.copyOf(left, left.length + right.length);
+        System.arraycopy(right, 0, merged, left.length, right.length);
+        return merged;
+    }
+}
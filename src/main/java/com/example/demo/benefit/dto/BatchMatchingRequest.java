@@ -0,0 +1,7 @@
+package com.example.demo.benefit.dto;
+
+import java.util.List;
+
+public record BatchMatchingRequest(
+    List<String> storeNames // 매칭할 매장명 목록
+) {}
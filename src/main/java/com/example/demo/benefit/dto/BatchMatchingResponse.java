@@ -0,0 +1,7 @@
+package com.example.demo.benefit.dto;
+
+import java.util.List;
+
+public record BatchMatchingResponse(
+    List<StoreMatchingResponse> stores // 요청 순서대로 매장별 매칭 결과
+) {}
@@ -0,0 +1,8 @@
+package com.example.demo.benefit.dto;
+
+import java.util.List;
+
+public record BestCardsResponse(
+    Long purchaseAmount,               // 결제 예정 금액
+    List<RankedCardResponse> rankedCards // 예상 혜택 내림차순
+) {}
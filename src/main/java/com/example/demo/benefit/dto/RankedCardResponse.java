@@ -0,0 +1,14 @@
+package com.example.demo.benefit.dto;
+
+import lombok.Builder;
+
+@Builder
+public record RankedCardResponse( // 결제 금액 기준 예상 혜택 순위
+    Long cardId,
+    String cardName,
+    String cardBank,
+    String imgUrl,
+    String type,
+    String benefitType,     // 가장 큰 혜택을 주는 혜택 타입 (DISCOUNT, POINT, CASHBACK)
+    Long expectedSaving     // 예상 혜택 금액
+) {}
@@ -0,0 +1,8 @@
+package com.example.demo.benefit.dto;
+
+import java.util.List;
+
+public record StoreMatchingResponse(
+    String storeName,                           // 요청한 매장명
+    List<AvailableCardResponse> availableCards  // 사용 가능한 카드
+) {}
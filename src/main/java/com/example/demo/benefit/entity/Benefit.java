@@ -18,6 +18,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -28,7 +29,8 @@ import lombok.NoArgsConstructor;
 @Getter
 public class Benefit {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benefitSeq")
+    @SequenceGenerator(name = "benefitSeq", sequenceName = "benefit_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -45,18 +47,21 @@ public class Benefit {
     @Column(name = "applicable_targets")
     private List<String> applicableTargets = new ArrayList<>();
 
-    @OneToMany(mappedBy = "benefit", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "benefit", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<DiscountBenefit> discountBenefits = new ArrayList<>();
 
-    @OneToMany(mappedBy = "benefit", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "benefit", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<PointBenefit> pointBenefits = new ArrayList<>();
 
-    @OneToMany(mappedBy = "benefit", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @OneToMany(mappedBy = "benefit", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<CashbackBenefit> cashbackBenefits = new ArrayList<>();
 
     @Column(unique = true)
     private Long externalId;
 
+    @Column(length = 64)
+    private String contentHash; // 마지막으로 동기화한 크롤링 데이터 해시
+
     @Builder
     public Benefit(Card cardId, List<String> applicableCategory, List<String> applicableTargets, Long externalId) {
         this.cardId = cardId;
@@ -65,6 +70,9 @@ public class Benefit {
         this.externalId = externalId;
     }
 
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
 
 }
 
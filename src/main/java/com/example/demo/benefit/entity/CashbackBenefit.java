@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,7 +22,8 @@ import lombok.Setter;
 @Setter
 public class CashbackBenefit {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cashbackBenefitSeq")
+    @SequenceGenerator(name = "cashbackBenefitSeq", sequenceName = "cashback_benefit_seq", allocationSize = 100)
     private Long id;
     private double rate;
     private double amount;
@@ -1,32 +1,61 @@
 package com.example.demo.benefit.repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.demo.benefit.catalog.BenefitValueRow;
+import com.example.demo.benefit.catalog.CardBenefitLink;
 import com.example.demo.benefit.entity.Benefit;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface BenefitRepository extends JpaRepository<Benefit, Long> {
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT DISTINCT b FROM Benefit b " +
-           "LEFT JOIN FETCH b.discountBenefits " +
-           "LEFT JOIN FETCH b.pointBenefits " +
-           "LEFT JOIN FETCH b.cashbackBenefits " +
-           "WHERE :storeName MEMBER OF b.applicableTargets")
-    List<Benefit> findByApplicableTargetsContaining(@Param("storeName") String storeName);
-
-
-    @Query("SELECT b FROM Benefit b WHERE b.cardId.id = :cardId AND :place MEMBER OF b.applicableTargets")
-    List<Benefit> findByCardIdAndPlace(@Param("cardId") Long cardId, @Param("place") String place);
-
-    Optional<Benefit> findByExternalId(Long externalId);
+    /**
+     * 크롤링 동기화용 외부 ID 일괄 조회
+     * 하위 컬렉션은 bag 이라 한 쿼리에 여러 개를 fetch join 할 수 없으므로,
+     * 같은 혜택 ID 로 컬렉션별 fetch join 쿼리를 이어서 실행해 영속성 컨텍스트의 엔티티를 채운다.
+     */
+    List<Benefit> findByExternalIdIn(Collection<Long> externalIds);
+
+    @Query("SELECT DISTINCT b FROM Benefit b LEFT JOIN FETCH b.discountBenefits WHERE b.id IN :ids")
+    List<Benefit> fetchDiscountBenefits(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT b FROM Benefit b LEFT JOIN FETCH b.pointBenefits WHERE b.id IN :ids")
+    List<Benefit> fetchPointBenefits(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT b FROM Benefit b LEFT JOIN FETCH b.cashbackBenefits WHERE b.id IN :ids")
+    List<Benefit> fetchCashbackBenefits(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT b FROM Benefit b LEFT JOIN FETCH b.applicableCategory WHERE b.id IN :ids")
+    List<Benefit> fetchApplicableCategory(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT b FROM Benefit b LEFT JOIN FETCH b.applicableTargets WHERE b.id IN :ids")
+    List<Benefit> fetchApplicableTargets(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 카탈로그 빌드용 혜택 ID와 직접 연결된 카드 ID 전체 조회 (카드가 없으면 null)
+     */
+    @Query("SELECT new com.example.demo.benefit.catalog.CardBenefitLink(c.id, b.id) FROM Benefit b " +
+           "LEFT JOIN b.cardId c")
+    List<CardBenefitLink> findAllCardLinks();
+
+    /**
+     * 카탈로그 빌드용 (혜택 ID, 적용 대상) 전체 조회
+     */
+    @Query("SELECT new com.example.demo.benefit.catalog.BenefitValueRow(b.id, t) FROM Benefit b " +
+           "JOIN b.applicableTargets t")
+    List<BenefitValueRow> findAllTargetRows();
+
+    /**
+     * 카탈로그 빌드용 (혜택 ID, 적용 카테고리) 전체 조회
+     */
+    @Query("SELECT new com.example.demo.benefit.catalog.BenefitValueRow(b.id, c) FROM Benefit b " +
+           "JOIN b.applicableCategory c")
+    List<BenefitValueRow> findAllCategoryRows();
 }
@@ -0,0 +1,199 @@
+package com.example.demo.benefit.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.benefit.catalog.BenefitCatalog;
+import com.example.demo.benefit.catalog.BenefitCatalogSnapshot;
+import com.example.demo.benefit.catalog.BenefitRuleVector;
+import com.example.demo.benefit.dto.BestCardsResponse;
+import com.example.demo.benefit.dto.RankedCardResponse;
+import com.example.demo.benefit.util.LongHashSet;
+import com.example.demo.card.entity.Card;
+import com.example.demo.card.repository.CardRepository;
+import com.example.demo.user.dto.BenefitUsageTotals;
+import com.example.demo.user.entity.UserCardPerformance;
+import com.example.demo.user.repository.UserCardPerformanceRepository;
+import com.example.demo.user.repository.UserCardRepository;
+import com.example.demo.user.service.BenefitUsageCounterService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BenefitRankingService {
+
+    public static final int MAX_LIMIT = 20; // 한 번에 반환하는 최대 카드 수
+
+    private final UserCardRepository userCardRepository;
+    private final UserCardPerformanceRepository userCardPerformanceRepository;
+    private final BenefitUsageCounterService benefitUsageCounterService;
+    private final CardRepository cardRepository;
+    private final BenefitCatalog benefitCatalog;
+
+    /**
+     * 매장 + 결제 금액 기준 예상 혜택이 큰 카드 상위 K개 조회
+     *
+     * 1. 카탈로그 스냅샷에서 매장에 적용되는 혜택 벡터만 골라 카드별 최대 예상 혜택 계산
+     *    (최소 결제 금액, 혜택 한도 - 이미 사용한 금액 반영)
+     * 2. 크기 K의 최소 힙으로 상위 K개만 유지
+     * 3. 선택된 K개 카드 정보만 일괄 조회
+     */
+    @Transactional(readOnly = true)
+    public BestCardsResponse getBestCards(String storeName, Long userId, long purchaseAmount, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit 은 1 ~ " + MAX_LIMIT + " 사이여야 합니다: " + limit);
+        }
+
+        // 1. 사용자 보유 카드 조회
+        List<Long> userCardIds = userCardRepository.findCardIdsByUserId(userId);
+
+        if (userCardIds.isEmpty()) {
+            return new BestCardsResponse(purchaseAmount, List.of());
+        }
+
+        BenefitCatalogSnapshot catalog = benefitCatalog.current();
+        long[] applicableBenefitIds = catalog.findBenefitIds(storeName);
+
+        if (applicableBenefitIds.length == 0) {
+            return new BestCardsResponse(purchaseAmount, List.of());
+        }
+
+        // 2. 실적 달성 카드만 후보로 사용
+        LongHashSet ownedCardIds = LongHashSet.of(userCardIds);
+        LongHashSet achievedCardIds = new LongHashSet(userCardIds.size());
+        for (UserCardPerformance performance : userCardPerformanceRepository.findByUserId(userId)) {
+            if (Boolean.TRUE.equals(performance.getIsTargetAchieved())) {
+                achievedCardIds.add(performance.getCard().getId());
+            }
+        }
+
+        BenefitUsageTotals usageTotals = benefitUsageCounterService.getCurrentMonthTotals(userId);
+
+        // 3. 카드별 최대 예상 혜택 계산
+        Map<Long, ScoredCard> scoredCards = new HashMap<>();
+        for (long benefitId : applicableBenefitIds) {
+            BenefitRuleVector vector = catalog.getRuleVector(benefitId);
+            if (vector == null || vector.size() == 0) {
+                continue;
+            }
+
+            for (long cardId : catalog.findCardIds(benefitId)) {
+                if (!ownedCardIds.contains(cardId) || !achievedCardIds.contains(cardId)) {
+                    continue;
+                }
+
+                ScoredCard scored = scoredCards.computeIfAbsent(cardId, id -> new ScoredCard(id, usageTotals));
+                scored.apply(vector, purchaseAmount);
+            }
+        }
+
+        // 4. 최소 힙으로 상위 K개 선택
+        PriorityQueue<ScoredCard> topCards = new PriorityQueue<>(Math.max(1, Math.min(limit, scoredCards.size())),
+                Comparator.comparingDouble(ScoredCard::getSaving));
+        for (ScoredCard scored : scoredCards.values()) {
+            if (scored.getSaving() <= 0) {
+                continue;
+            }
+            if (topCards.size() < limit) {
+                topCards.offer(scored);
+            } else if (scored.getSaving() > topCards.peek().getSaving()) {
+                topCards.poll();
+                topCards.offer(scored);
+            }
+        }
+
+        List<ScoredCard> ranked = new ArrayList<>(topCards);
+        ranked.sort(Comparator.comparingDouble(ScoredCard::getSaving).reversed());
+
+        // 5. 선택된 카드 정보만 일괄 조회
+        Map<Long, Card> cardsById = cardRepository.findAllById(ranked.stream().map(ScoredCard::getCardId).toList())
+                .stream()
+                .collect(Collectors.toMap(Card::getId, card -> card));
+
+        List<RankedCardResponse> rankedCards = new ArrayList<>(ranked.size());
+        for (ScoredCard scored : ranked) {
+            Card card = cardsById.get(scored.getCardId());
+            if (card == null) {
+                continue;
+            }
+            rankedCards.add(RankedCardResponse.builder()
+                    .cardId(card.getId())
+                    .cardName(card.getCardName())
+                    .cardBank(card.getCardBank())
+                    .imgUrl(card.getImgUrl())
+                    .type(card.getType())
+                    .benefitType(BenefitRuleVector.typeName(scored.getBenefitType()))
+                    .expectedSaving((long) scored.getSaving())
+                    .build());
+        }
+
+        log.info("예상 혜택 순위 계산 완료 - 매장: {}, 금액: {}, 후보 카드: {}, 반환: {}",
+                storeName, purchaseAmount, scoredCards.size(), rankedCards.size());
+        return new BestCardsResponse(purchaseAmount, rankedCards);
+    }
+
+    /**
+     * 카드 한 장의 예상 혜택 계산 상태
+     * 혜택 타입별 남은 한도는 카드당 한 번만 계산해 둔다.
+     */
+    private static final class ScoredCard {
+
+        private final long cardId;
+        private final double[] usedAmounts = new double[3];
+        private double saving;
+        private byte benefitType;
+
+        private ScoredCard(long cardId, BenefitUsageTotals usageTotals) {
+            this.cardId = cardId;
+            usedAmounts[BenefitRuleVector.DISCOUNT] = usageTotals.getUsedAmount(cardId, "DISCOUNT");
+            usedAmounts[BenefitRuleVector.POINT] = usageTotals.getUsedAmount(cardId, "POINT");
+            usedAmounts[BenefitRuleVector.CASHBACK] = usageTotals.getUsedAmount(cardId, "CASHBACK");
+        }
+
+        /**
+         * 벡터의 조건 중 결제 금액에 적용 가능한 가장 큰 혜택으로 갱신
+         */
+        private void apply(BenefitRuleVector vector, long purchaseAmount) {
+            for (int i = 0; i < vector.size(); i++) {
+                if (purchaseAmount < vector.minimumAmount(i)) {
+                    continue;
+                }
+
+                double expected = purchaseAmount * vector.rate(i) + vector.amount(i);
+                double benefitLimit = vector.benefitLimit(i);
+                if (benefitLimit > 0) {
+                    double remaining = Math.max(0, benefitLimit - usedAmounts[vector.type(i)]);
+                    expected = Math.min(expected, remaining);
+                }
+
+                if (expected > saving) {
+                    saving = expected;
+                    benefitType = vector.type(i);
+                }
+            }
+        }
+
+        private long getCardId() {
+            return cardId;
+        }
+
+        private double getSaving() {
+            return saving;
+        }
+
+        private byte getBenefitType() {
+            return benefitType;
+        }
+    }
+}
@@ -1,32 +1,41 @@
 package com.example.demo.benefit.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.benefit.application.dto.CashbackBenefitDTO;
 import com.example.demo.benefit.application.dto.DiscountBenefitDTO;
 import com.example.demo.benefit.application.dto.PointBenefitDTO;
+import com.example.demo.benefit.catalog.BenefitCatalog;
+import com.example.demo.benefit.catalog.BenefitCatalogSnapshot;
+import com.example.demo.benefit.catalog.CatalogBenefit;
 import com.example.demo.benefit.dto.AvailableCardResponse;
 import com.example.demo.benefit.dto.BenefitDetailDTO;
 import com.example.demo.benefit.dto.CardWithBenefitResponse;
 import com.example.demo.benefit.dto.LimitInfo;
 import com.example.demo.benefit.dto.MatchingCardsResponse;
 import com.example.demo.benefit.dto.PerformanceInfo;
-import com.example.demo.benefit.entity.Benefit;
-import com.example.demo.benefit.repository.BenefitRepository;
+import com.example.demo.benefit.dto.StoreMatchingResponse;
 import com.example.demo.benefit.util.BenefitConverter;
+import com.example.demo.benefit.util.LongHashSet;
 import com.example.demo.card.entity.Card;
 import com.example.demo.card.repository.CardRepository;
+import com.example.demo.config.CacheConfig;
+import com.example.demo.user.dto.BenefitUsageTotals;
 import com.example.demo.user.entity.UserCardPerformance;
-import com.example.demo.user.repository.UserBenefitUsageRepository;
 import com.example.demo.user.repository.UserCardPerformanceRepository;
 import com.example.demo.user.repository.UserCardRepository;
+import com.example.demo.user.service.BenefitUsageCounterService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,12 +45,12 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class OptimalBenefitService {
     
-    private final BenefitRepository benefitRepository;
     private final UserCardPerformanceRepository userCardPerformanceRepository;
-    private final UserBenefitUsageRepository userBenefitUsageRepository;
+    private final BenefitUsageCounterService benefitUsageCounterService;
     private final UserCardRepository userCardRepository;
     private final CardRepository cardRepository;
     private final BenefitConverter benefitConverter;
+    private final BenefitCatalog benefitCatalog;
     
     /**
      * 매장명으로 매칭되는 카드 조회 
@@ -57,37 +66,16 @@ public class OptimalBenefitService {
             return List.of();
         }
         
-        // 2. 보유 카드 중에서 해당 매장명에 적용되는 혜택들 조회
-        List<Benefit> applicableBenefits = benefitRepository.findByApplicableTargetsContaining(storeName);
+        // 2. 카탈로그 매칭기로 매장명에 포함된 적용 대상의 혜택을 보유 카드별로 그룹핑
+        BenefitCatalogSnapshot catalog = benefitCatalog.current();
+        Map<Long, List<CatalogBenefit>> benefitsByCard = groupBenefitsByCard(catalog, LongHashSet.of(userCardIds), storeName);
         
-        if (applicableBenefits.isEmpty()) {
+        if (benefitsByCard.isEmpty()) {
             return List.of();
         }
         
-        // 3. 보유 카드 중에서만 매칭되는 카드 반환 (카드별로 모든 Benefit 합치기)
-        Map<Long, List<Benefit>> benefitsByCard = applicableBenefits.stream()
-            .filter(benefit -> userCardIds.contains(benefit.getCardId().getId()))
-            .collect(Collectors.groupingBy(benefit -> benefit.getCardId().getId()));
-        
-        List<CardWithBenefitResponse> matchingCards = benefitsByCard.entrySet().stream()
-            .map(entry -> {
-                Long cardId = entry.getKey();
-                List<Benefit> cardBenefits = entry.getValue();
-                
-                //  카드 정보 직접 조회
-                Card card = cardRepository.findById(cardId)
-                    .orElseThrow(() -> new RuntimeException("카드를 찾을 수 없습니다: " + cardId));
-                
-                return new CardWithBenefitResponse(
-                    card.getId(),
-                    card.getCardName(),
-                    card.getCardBank(),
-                    card.getImgUrl(),
-                    card.getType(),
-                    benefitConverter.convertMultipleBenefitsToDTO(cardBenefits)
-                );
-            })
-            .collect(java.util.stream.Collectors.toList());
+        // 3. 매칭된 카드 정보 일괄 조회 (카드 수와 무관하게 쿼리 1회)
+        List<CardWithBenefitResponse> matchingCards = toCardResponses(benefitsByCard, loadCards(benefitsByCard.keySet()));
         
         log.info("매칭된 카드 수: {} 개", matchingCards.size());
         return matchingCards;
@@ -98,27 +86,133 @@ public class OptimalBenefitService {
      * 1. 실적 검증: 목표 실적을 달성한 카드만
      * 2. 한도 검증: 혜택 한도 내에서 사용 가능한 카드만
      * 3. 실시간 반영: 푸시 알림 기반 자동 혜택 적용 후 즉시 반영
+     *
+     * 결과는 (사용자, 정규화된 매장명) 단위로 캐시하고,
+     * 카드 등록/해제, 소비 반영, 카탈로그 갱신 시 MatchingCardsCacheEvictor 가 무효화한다.
      */
+    @Cacheable(cacheNames = CacheConfig.MATCHING_CARDS,
+            key = "#userId + ':' + T(com.example.demo.benefit.util.StoreNameNormalizer).normalize(#storeName)")
     @Transactional(readOnly = true)
     public MatchingCardsResponse getMatchingCardsWithRealTimeFilter(String storeName, Long userId) {
+        List<StoreMatchingResponse> results = getMatchingCardsForStores(List.of(storeName), userId);
+        return new MatchingCardsResponse(results.get(0).availableCards());
+    }
+    
+    /**
+     * 여러 매장의 실시간 필터링 매칭 카드 일괄 조회
+     *
+     * 보유 카드 / 실적 / 이번 달 사용 금액을 한 번만 읽어 공유 컨텍스트로 만든 뒤
+     * 모든 매장을 같은 컨텍스트로 평가한다. 카드 정보도 전체 매장에서 매칭된 카드를 모아 한 번에 조회하므로
+     * 매장 수와 무관하게 쿼리 수가 고정된다.
+     */
+    @Transactional(readOnly = true)
+    public List<StoreMatchingResponse> getMatchingCardsForStores(List<String> storeNames, Long userId) {
         
-        // 1. 기본 매칭 카드 조회
-        List<CardWithBenefitResponse> allMatchingCards = getMatchingCards(storeName, userId);
+        // 1. 사용자 보유 카드 조회
+        List<Long> userCardIds = userCardRepository.findCardIdsByUserId(userId);
+        LongHashSet ownedCardIds = LongHashSet.of(userCardIds);
         
-        if (allMatchingCards.isEmpty()) {
-            return new MatchingCardsResponse(new ArrayList<>());
+        // 2. 매장별 매칭 혜택 그룹핑 (카탈로그 스냅샷만 사용, DB 조회 없음)
+        BenefitCatalogSnapshot catalog = benefitCatalog.current();
+        List<Map<Long, List<CatalogBenefit>>> benefitsByStore = new ArrayList<>(storeNames.size());
+        Set<Long> matchedCardIds = new HashSet<>();
+        for (String storeName : storeNames) {
+            Map<Long, List<CatalogBenefit>> benefitsByCard = ownedCardIds.isEmpty()
+                    ? Map.of()
+                    : groupBenefitsByCard(catalog, ownedCardIds, storeName);
+            benefitsByStore.add(benefitsByCard);
+            matchedCardIds.addAll(benefitsByCard.keySet());
         }
         
-        // 2. 실시간 필터링 적용 및 분류
+        if (matchedCardIds.isEmpty()) {
+            return storeNames.stream()
+                    .map(storeName -> new StoreMatchingResponse(storeName, List.of()))
+                    .toList();
+        }
+        
+        // 3. 매칭된 카드가 있을 때만 공유 컨텍스트 로딩 (카드 정보, 실적, 이번 달 사용 금액 각 1회)
+        MatchingContext context = new MatchingContext(
+                loadCards(matchedCardIds),
+                loadPerformances(userId),
+                benefitUsageCounterService.getCurrentMonthTotals(userId));
+        
+        // 4. 매장별 실시간 필터링
+        List<StoreMatchingResponse> results = new ArrayList<>(storeNames.size());
+        for (int i = 0; i < storeNames.size(); i++) {
+            List<CardWithBenefitResponse> matchingCards = toCardResponses(benefitsByStore.get(i), context.cardsById());
+            results.add(new StoreMatchingResponse(storeNames.get(i), filterAvailableCards(context, matchingCards)));
+        }
+        
+        return results;
+    }
+    
+    /**
+     * 사용자 카드별 실적 일괄 조회
+     */
+    private Map<Long, UserCardPerformance> loadPerformances(Long userId) {
+        return userCardPerformanceRepository.findByUserId(userId).stream()
+                .collect(Collectors.toMap(performance -> performance.getCard().getId(), performance -> performance,
+                        (first, second) -> first));
+    }
+    
+    /**
+     * 매장명에 매칭되는 혜택을 보유 카드별로 그룹핑 (카탈로그 스냅샷에서 바로 읽음)
+     */
+    private Map<Long, List<CatalogBenefit>> groupBenefitsByCard(BenefitCatalogSnapshot catalog, LongHashSet ownedCardIds, String storeName) {
+        Map<Long, List<CatalogBenefit>> benefitsByCard = new LinkedHashMap<>();
+        for (long benefitId : catalog.findBenefitIds(storeName)) {
+            CatalogBenefit benefit = catalog.getBenefit(benefitId);
+            if (benefit == null) {
+                continue;
+            }
+            for (long cardId : catalog.findCardIds(benefitId)) {
+                if (ownedCardIds.contains(cardId)) {
+                    benefitsByCard.computeIfAbsent(cardId, key -> new ArrayList<>()).add(benefit);
+                }
+            }
+        }
+        return benefitsByCard;
+    }
+    
+    private Map<Long, Card> loadCards(Collection<Long> cardIds) {
+        return cardRepository.findAllById(cardIds).stream()
+            .collect(Collectors.toMap(Card::getId, card -> card));
+    }
+    
+    private List<CardWithBenefitResponse> toCardResponses(Map<Long, List<CatalogBenefit>> benefitsByCard, Map<Long, Card> cardsById) {
+        List<CardWithBenefitResponse> matchingCards = new ArrayList<>(benefitsByCard.size());
+        benefitsByCard.forEach((cardId, cardBenefits) -> {
+            Card card = cardsById.get(cardId);
+            if (card == null) {
+                log.warn("카탈로그에 있는 카드를 찾을 수 없습니다: {}", cardId);
+                return;
+            }
+            
+            matchingCards.add(new CardWithBenefitResponse(
+                card.getId(),
+                card.getCardName(),
+                card.getCardBank(),
+                card.getImgUrl(),
+                card.getType(),
+                benefitConverter.convertCatalogBenefitsToDTO(cardBenefits)
+            ));
+        });
+        return matchingCards;
+    }
+    
+    /**
+     * 실적 / 한도 기준 실시간 필터링
+     */
+    private List<AvailableCardResponse> filterAvailableCards(MatchingContext context, List<CardWithBenefitResponse> matchingCards) {
         List<AvailableCardResponse> availableCards = new ArrayList<>();
         
-        for (CardWithBenefitResponse cardResponse : allMatchingCards) {
+        for (CardWithBenefitResponse cardResponse : matchingCards) {
             try {
                 // 실적 정보 조회
-                PerformanceInfo performanceInfo = getPerformanceInfo(userId, cardResponse.cardId());
+                PerformanceInfo performanceInfo = getPerformanceInfo(context, cardResponse.cardId());
                 
                 // 한도 정보 조회
-                LimitInfo limitInfo = getLimitInfo(userId, cardResponse.cardId(), cardResponse.benefits());
+                LimitInfo limitInfo = getLimitInfo(context.usageTotals(), cardResponse.cardId(), cardResponse.benefits());
                 
                 // 실적 검증
                 if (!performanceInfo.isAchieved()) {
@@ -127,7 +221,7 @@ public class OptimalBenefitService {
                 }
                 
                 // 한도 검증
-                if (!hasAvailableBenefitLimit(userId, cardResponse.cardId(), cardResponse.benefits())) {
+                if (!hasAvailableBenefitLimit(context.usageTotals(), cardResponse.cardId(), cardResponse.benefits())) {
                     log.debug("한도 부족으로 제외: {}", cardResponse.cardName());
                     continue;
                 }
@@ -140,16 +234,15 @@ public class OptimalBenefitService {
             }
         }
         
-        return new MatchingCardsResponse(availableCards);
+        return availableCards;
     }
     
     
     // 혜택 한도 사용 여부 확인
-    private boolean hasAvailableBenefitLimit(Long userId, Long cardId, BenefitDetailDTO benefits) {
+    private boolean hasAvailableBenefitLimit(BenefitUsageTotals usageTotals, Long cardId, BenefitDetailDTO benefits) {
         // 할인 혜택 한도 확인
         if (benefits.discounts() != null && !benefits.discounts().isEmpty()) {
-            Long usedDiscountAmount = userBenefitUsageRepository
-                    .findTotalUsedAmountByUserAndCardAndBenefitType(userId, cardId, "DISCOUNT");
+            Long usedDiscountAmount = usageTotals.getUsedAmount(cardId, "DISCOUNT");
             
             for (DiscountBenefitDTO discount : benefits.discounts()) {
                 if (usedDiscountAmount + (long) discount.amount() > (long) discount.benefitLimit()) {
@@ -160,8 +253,7 @@ public class OptimalBenefitService {
         
         // 포인트 혜택 한도 확인
         if (benefits.points() != null && !benefits.points().isEmpty()) {
-            Long usedPointAmount = userBenefitUsageRepository
-                    .findTotalUsedAmountByUserAndCardAndBenefitType(userId, cardId, "POINT");
+            Long usedPointAmount = usageTotals.getUsedAmount(cardId, "POINT");
             
             for (PointBenefitDTO point : benefits.points()) {
                 if (usedPointAmount > point.benefitLimit()) {
@@ -172,8 +264,7 @@ public class OptimalBenefitService {
         
         // 캐시백 혜택 한도 확인
         if (benefits.cashbacks() != null && !benefits.cashbacks().isEmpty()) {
-            Long usedCashbackAmount = userBenefitUsageRepository
-                    .findTotalUsedAmountByUserAndCardAndBenefitType(userId, cardId, "CASHBACK");
+            Long usedCashbackAmount = usageTotals.getUsedAmount(cardId, "CASHBACK");
             
             for (CashbackBenefitDTO cashback : benefits.cashbacks()) {
                 if (usedCashbackAmount + (long) cashback.amount() > (long) cashback.benefitLimit()) {
@@ -187,17 +278,15 @@ public class OptimalBenefitService {
     
     
     /**
-     * 실적 정보 조회
+     * 실적 정보 조회 (컨텍스트에 미리 로딩된 실적 사용)
      */
-    private PerformanceInfo getPerformanceInfo(Long userId, Long cardId) {
-        Optional<UserCardPerformance> performance = userCardPerformanceRepository
-                .findByUserIdAndCardId(userId, cardId);
+    private PerformanceInfo getPerformanceInfo(MatchingContext context, Long cardId) {
+        UserCardPerformance perf = context.performances().get(cardId);
         
-        if (performance.isEmpty()) {
+        if (perf == null) {
             return new PerformanceInfo(0L, 0L, false);
         }
         
-        UserCardPerformance perf = performance.get();
         return new PerformanceInfo(
                 perf.getCurrentAmount(),
                 perf.getTargetAmount(),
@@ -208,7 +297,7 @@ public class OptimalBenefitService {
     /**
      * 한도 정보 조회
      */
-    private LimitInfo getLimitInfo(Long userId, Long cardId, BenefitDetailDTO benefits) {
+    private LimitInfo getLimitInfo(BenefitUsageTotals usageTotals, Long cardId, BenefitDetailDTO benefits) {
         Long usedDiscountAmount = 0L;
         Long usedPointAmount = 0L;
         Long usedCashbackAmount = 0L;
@@ -219,8 +308,7 @@ public class OptimalBenefitService {
         
         // 할인 혜택 한도 계산
         if (benefits.discounts() != null && !benefits.discounts().isEmpty()) {
-            usedDiscountAmount = userBenefitUsageRepository
-                    .findTotalUsedAmountByUserAndCardAndBenefitType(userId, cardId, "DISCOUNT");
+            usedDiscountAmount = usageTotals.getUsedAmount(cardId, "DISCOUNT");
             totalDiscountLimit = benefits.discounts().stream()
                     .mapToLong(d -> (long) d.benefitLimit())
                     .sum();
@@ -228,8 +316,7 @@ public class OptimalBenefitService {
         
         // 포인트 혜택 한도 계산
         if (benefits.points() != null && !benefits.points().isEmpty()) {
-            usedPointAmount = userBenefitUsageRepository
-                    .findTotalUsedAmountByUserAndCardAndBenefitType(userId, cardId, "POINT");
+            usedPointAmount = usageTotals.getUsedAmount(cardId, "POINT");
             totalPointLimit = benefits.points().stream()
                     .mapToLong(p -> p.benefitLimit())
                     .sum();
@@ -237,8 +324,7 @@ public class OptimalBenefitService {
         
         // 캐시백 혜택 한도 계산
         if (benefits.cashbacks() != null && !benefits.cashbacks().isEmpty()) {
-            usedCashbackAmount = userBenefitUsageRepository
-                    .findTotalUsedAmountByUserAndCardAndBenefitType(userId, cardId, "CASHBACK");
+            usedCashbackAmount = usageTotals.getUsedAmount(cardId, "CASHBACK");
             totalCashbackLimit = benefits.cashbacks().stream()
                     .mapToLong(c -> c.benefitLimit())
                     .sum();
@@ -270,5 +356,12 @@ public class OptimalBenefitService {
                 .build();
     }
 
-    
+    /**
+     * 매장 평가 간 공유되는 사용자 상태
+     */
+    private record MatchingContext(
+        Map<Long, Card> cardsById,
+        Map<Long, UserCardPerformance> performances,
+        BenefitUsageTotals usageTotals
+    ) {}
 }
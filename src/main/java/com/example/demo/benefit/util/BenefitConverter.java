@@ -1,6 +1,9 @@
 package com.example.demo.benefit.util;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
@@ -8,8 +11,12 @@ import org.springframework.stereotype.Component;
 import com.example.demo.benefit.application.dto.CashbackBenefitDTO;
 import com.example.demo.benefit.application.dto.DiscountBenefitDTO;
 import com.example.demo.benefit.application.dto.PointBenefitDTO;
+import com.example.demo.benefit.catalog.CatalogBenefit;
 import com.example.demo.benefit.dto.BenefitDetailDTO;
 import com.example.demo.benefit.entity.Benefit;
+import com.example.demo.benefit.entity.CashbackBenefit;
+import com.example.demo.benefit.entity.DiscountBenefit;
+import com.example.demo.benefit.entity.PointBenefit;
 
 @Component
 public class BenefitConverter {
@@ -68,5 +75,60 @@ public class BenefitConverter {
         return new BenefitDetailDTO(allDiscounts, allPoints, allCashbacks, allApplicableCategories, allApplicableTargets);
     }
 
+    /**
+     * 카탈로그 스냅샷의 혜택들을 하나의 BenefitDetailDTO로 합침 (이미 변환된 DTO 재사용)
+     */
+    public BenefitDetailDTO convertCatalogBenefitsToDTO(List<CatalogBenefit> benefits) {
+        if (benefits == null || benefits.isEmpty()) {
+            return new BenefitDetailDTO(List.of(), List.of(), List.of(), List.of(), List.of());
+        }
+
+        List<DiscountBenefitDTO> allDiscounts = new ArrayList<>();
+        List<PointBenefitDTO> allPoints = new ArrayList<>();
+        List<CashbackBenefitDTO> allCashbacks = new ArrayList<>();
+        Set<String> allApplicableCategories = new LinkedHashSet<>();
+        Set<String> allApplicableTargets = new LinkedHashSet<>();
+
+        for (CatalogBenefit benefit : benefits) {
+            allDiscounts.addAll(benefit.discounts());
+            allPoints.addAll(benefit.points());
+            allCashbacks.addAll(benefit.cashbacks());
+            allApplicableCategories.addAll(benefit.applicableCategory());
+            allApplicableTargets.addAll(benefit.applicableTargets());
+        }
+
+        return new BenefitDetailDTO(allDiscounts, allPoints, allCashbacks,
+                new ArrayList<>(allApplicableCategories), new ArrayList<>(allApplicableTargets));
+    }
+
+    public DiscountBenefitDTO toDiscountDTO(DiscountBenefit discount) {
+        return DiscountBenefitDTO.builder()
+                .rate(discount.getRate())
+                .amount(discount.getAmount())
+                .minimumAmount(discount.getMinimumAmount())
+                .benefitLimit(discount.getBenefitLimit())
+                .channel(discount.getChannel())
+                .build();
+    }
+
+    public PointBenefitDTO toPointDTO(PointBenefit point) {
+        return PointBenefitDTO.builder()
+                .rate(point.getRate())
+                .minimumAmount(point.getMinimumAmount())
+                .benefitLimit(point.getBenefitLimit())
+                .channel(point.getChannel())
+                .build();
+    }
+
+    public CashbackBenefitDTO toCashbackDTO(CashbackBenefit cashback) {
+        return CashbackBenefitDTO.builder()
+                .rate(cashback.getRate())
+                .amount(cashback.getAmount())
+                .minimumAmount(cashback.getMinimumAmount())
+                .benefitLimit(cashback.getBenefitLimit())
+                .channel(cashback.getChannel())
+                .build();
+    }
+
 
 }
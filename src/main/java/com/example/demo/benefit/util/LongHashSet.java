@@ -0,0 +1,112 @@
+package com.example.demo.benefit.util;
+
+import java.util.Collection;
+
+/**
+ * long 원시 타입 전용 해시 셋 (오픈 어드레싱, 선형 탐사)
+ * 요청마다 반복되는 카드 ID 포함 여부 확인을 박싱 없이 O(1)로 처리하기 위해 사용
+ */
+public final class LongHashSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    public LongHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static LongHashSet of(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        for (Long value : values) {
+            if (value != null) {
+                set.add(value);
+            }
+        }
+        return set;
+    }
+
+    public static LongHashSet of(long[] values) {
+        LongHashSet set = new LongHashSet(values.length);
+        for (long value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = value;
+        size++;
+        if (size > keys.length * LOAD_FACTOR) {
+            rehash();
+        }
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) {
+            return containsZero;
+        }
+
+        int index = indexOf(value);
+        while (keys[index] != EMPTY) {
+            if (keys[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int indexOf(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        keys = new long[oldKeys.length << 1];
+        mask = keys.length - 1;
+
+        for (long key : oldKeys) {
+            if (key != EMPTY) {
+                int index = indexOf(key);
+                while (keys[index] != EMPTY) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+            }
+        }
+    }
+}
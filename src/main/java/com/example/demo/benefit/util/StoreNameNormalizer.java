@@ -0,0 +1,28 @@
+package com.example.demo.benefit.util;
+
+import java.util.Locale;
+
+/**
+ * 매장명/혜택 대상 문자열 정규화
+ * 공백 제거 + 소문자 변환으로 "스타벅스 ", "STARBUCKS" 같은 표기 차이를 흡수
+ */
+public final class StoreNameNormalizer {
+
+    private StoreNameNormalizer() {
+    }
+
+    public static String normalize(String name) {
+        if (name == null || name.isBlank()) {
+            return "";
+        }
+
+        StringBuilder normalized = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.demo.config.CacheConfig;
+import com.example.demo.event.BenefitCatalogRefreshedEvent;
+import com.example.demo.event.UserBenefitStateChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매장 매칭 결과 캐시 무효화
+ * - 사용자 상태 변경 (카드 등록/해제, 소비 반영): 커밋 이후 해당 사용자 키만 삭제
+ * - 카탈로그 교체 (크롤링 동기화): 전체 삭제
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MatchingCardsCacheEvictor {
+
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheManager cacheManager;
+
+    /**
+     * 사용자 키 삭제 ({cacheName}::{userId}:* 패턴 SCAN)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleUserBenefitStateChanged(UserBenefitStateChangedEvent event) {
+        String pattern = CacheConfig.MATCHING_CARDS + "::" + event.getUserId() + ":*";
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(DELETE_BATCH_SIZE).build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>(DELETE_BATCH_SIZE);
+            int deleted = 0;
+
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == DELETE_BATCH_SIZE) {
+                    deleted += delete(keys);
+                }
+            }
+            deleted += delete(keys);
+
+            log.debug("매칭 캐시 무효화 - 사용자: {}, 사유: {}, 삭제: {}개", event.getUserId(), event.getReason(), deleted);
+        } catch (Exception e) {
+            log.error("매칭 캐시 무효화 실패 - 사용자: {}", event.getUserId(), e);
+        }
+    }
+
+    /**
+     * 카탈로그 교체 후 전체 삭제
+     */
+    @EventListener
+    public void handleCatalogRefreshed(BenefitCatalogRefreshedEvent event) {
+        Cache cache = cacheManager.getCache(CacheConfig.MATCHING_CARDS);
+        if (cache != null) {
+            cache.clear();
+            log.info("카탈로그 갱신으로 매칭 캐시 전체 삭제 - 버전: {}", event.getVersion());
+        }
+    }
+
+    private int delete(List<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long deleted = redisTemplate.delete(keys);
+        keys.clear();
+        return deleted != null ? deleted.intValue() : 0;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.store.dto.PlaceTile;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (카테고리, geohash 타일) 단위 카카오 장소 검색 결과 캐시
+ * 결과와 함께 그 조회가 빠짐없이 덮는 범위(TileCoverage)를 저장해, 조회 측에서 요청 좌표를 덮는지 확인한다.
+ *
+ * 1단계: 인스턴스 로컬 LRU (TTL 포함, 최대 타일 수 초과 시 가장 오래 안 쓴 타일 제거)
+ * 2단계: Redis (인스턴스 간 공유, 로컬 미스 시 조회 후 로컬로 승격)
+ *
+ * TTL 이 지난 결과도 stale-ttl 동안은 마지막 정상 응답(last known good)으로 보관해
+ * 카카오 API 장애 / 지연 시 대체 응답으로 사용한다 (getStale).
+ */
+@Component
+@Slf4j
+public class PlaceTileCache {
+
+    private static final String KEY_PREFIX = "placeTile:v2:";
+    private static final String STALE_KEY_PREFIX = "placeTileStale:v2:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration staleTtl;
+    private final Map<String, Entry> localTiles;
+
+    public PlaceTileCache(RedisTemplate<String, String> redisTemplate,
+                          ObjectMapper objectMapper,
+                          @Value("${kakao.tile-cache.ttl:10m}") Duration ttl,
+                          @Value("${kakao.tile-cache.stale-ttl:24h}") Duration staleTtl,
+                          @Value("${kakao.tile-cache.local-max-tiles:5000}") int localMaxTiles) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.staleTtl = staleTtl.compareTo(ttl) > 0 ? staleTtl : ttl;
+        this.localTiles = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > localMaxTiles;
+            }
+        };
+    }
+
+    public Optional<PlaceTile> get(String categoryCode, String tile) {
+        String key = key(categoryCode, tile);
+        long now = System.currentTimeMillis();
+
+        synchronized (localTiles) {
+            Entry entry = localTiles.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    return Optional.of(entry.tile());
+                }
+                if (entry.staleUntil() <= now) {
+                    localTiles.remove(key);
+                }
+            }
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null) {
+                return Optional.empty();
+            }
+
+            PlaceTile tile = objectMapper.readValue(json, PlaceTile.class);
+            Long remainingMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            long expiresAt = now + (remainingMillis != null && remainingMillis > 0 ? remainingMillis : ttl.toMillis());
+            putLocal(key, tile, expiresAt, expiresAt - ttl.toMillis() + staleTtl.toMillis());
+            return Optional.of(tile);
+
+        } catch (Exception e) {
+            log.warn("장소 타일 캐시 Redis 조회 실패 - 키: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * TTL 과 무관하게 stale-ttl 안에 저장된 마지막 정상 응답 조회 (장애 / 지연 시 대체 응답용)
+     */
+    public Optional<PlaceTile> getStale(String categoryCode, String tile) {
+        String key = key(categoryCode, tile);
+        long now = System.currentTimeMillis();
+
+        synchronized (localTiles) {
+            Entry entry = localTiles.get(key);
+            if (entry != null && entry.staleUntil() > now) {
+                return Optional.of(entry.tile());
+            }
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(staleKey(categoryCode, tile));
+            if (json == null) {
+                return Optional.empty();
+            }
+            return Optional.of(objectMapper.readValue(json, PlaceTile.class));
+
+        } catch (Exception e) {
+            log.warn("장소 타일 캐시 Redis stale 조회 실패 - 키: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void put(String categoryCode, String tile, PlaceTile placeTile) {
+        String key = key(categoryCode, tile);
+        PlaceTile immutableTile = new PlaceTile(placeTile.coverage(), List.copyOf(placeTile.places()));
+        long now = System.currentTimeMillis();
+        putLocal(key, immutableTile, now + ttl.toMillis(), now + staleTtl.toMillis());
+
+        try {
+            String json = objectMapper.writeValueAsString(immutableTile);
+            redisTemplate.opsForValue().set(key, json, ttl);
+            redisTemplate.opsForValue().set(staleKey(categoryCode, tile), json, staleTtl);
+        } catch (Exception e) {
+            log.warn("장소 타일 캐시 Redis 저장 실패 - 키: {}", key, e);
+        }
+    }
+
+    private void putLocal(String key, PlaceTile tile, long expiresAt, long staleUntil) {
+        synchronized (localTiles) {
+            localTiles.put(key, new Entry(tile, expiresAt, staleUntil));
+        }
+    }
+
+    private String key(String categoryCode, String tile) {
+        return KEY_PREFIX + categoryCode + ":" + tile;
+    }
+
+    private String staleKey(String categoryCode, String tile) {
+        return STALE_KEY_PREFIX + categoryCode + ":" + tile;
+    }
+
+    private record Entry(PlaceTile tile, long expiresAt, long staleUntil) {}
+}
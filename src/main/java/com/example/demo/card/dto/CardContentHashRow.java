@@ -0,0 +1,9 @@
+package com.example.demo.card.dto;
+
+/**
+ * 크롤링 동기화용 (외부 카드 ID, 저장된 콘텐츠 해시) 조회 결과
+ */
+public record CardContentHashRow(
+    Long externalId,
+    String contentHash
+) {}
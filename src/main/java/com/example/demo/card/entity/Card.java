@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Entity
 @Getter
@@ -15,7 +16,8 @@ import java.util.List;
 public class Card {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cardSeq")
+    @SequenceGenerator(name = "cardSeq", sequenceName = "card_seq", allocationSize = 100)
     private Long id;
     private String cardName;
     private String cardBank;
@@ -27,6 +29,9 @@ public class Card {
 
     private Long externalId;
 
+    @Column(length = 64)
+    private String contentHash; // 마지막으로 동기화한 크롤링 데이터 해시 (혜택 포함)
+
     @Builder
     public Card(Long id, String cardName, String cardBank, String imgUrl, String type, List<Benefit> benefits, Long externalId) {
         this.id = id;
@@ -37,4 +42,24 @@ public class Card {
         this.benefits = benefits != null ? benefits : new ArrayList<>();
         this.externalId = externalId;
     }
+
+    /**
+     * 크롤링 데이터 기준으로 카드 기본 정보 갱신 (변경 여부 반환, 영속 상태면 변경 감지로 반영)
+     */
+    public boolean update(String cardName, String cardBank, String imgUrl, String type) {
+        boolean changed = !Objects.equals(this.cardName, cardName)
+                || !Objects.equals(this.cardBank, cardBank)
+                || !Objects.equals(this.imgUrl, imgUrl)
+                || !Objects.equals(this.type, type);
+
+        this.cardName = cardName;
+        this.cardBank = cardBank;
+        this.imgUrl = imgUrl;
+        this.type = type;
+        return changed;
+    }
+
+    public void updateContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
 }
@@ -12,7 +12,8 @@ import lombok.NoArgsConstructor;
 public class CardBenefit {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cardBenefitSeq")
+    @SequenceGenerator(name = "cardBenefitSeq", sequenceName = "card_benefit_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,14 +1,27 @@
 package com.example.demo.card.repository;
 
-import com.example.demo.card.entity.Card;
+import com.example.demo.benefit.catalog.CardBenefitLink;
 import com.example.demo.card.entity.CardBenefit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CardBenefitRepository extends JpaRepository<CardBenefit, Long> {
 
-    List<CardBenefit> findByCard(Card card);
+    /**
+     * 크롤링 동기화용 카드들의 카드-혜택 매핑 일괄 조회 (혜택 함께 로딩)
+     */
+    @Query("SELECT cb FROM CardBenefit cb JOIN FETCH cb.benefit WHERE cb.card.id IN :cardIds")
+    List<CardBenefit> findByCardIdInWithBenefit(@Param("cardIds") Collection<Long> cardIds);
+
+    /**
+     * 카탈로그 인덱스 빌드용 카드-혜택 매핑 전체 조회
+     */
+    @Query("SELECT new com.example.demo.benefit.catalog.CardBenefitLink(cb.card.id, cb.benefit.id) FROM CardBenefit cb")
+    List<CardBenefitLink> findAllLinks();
 }
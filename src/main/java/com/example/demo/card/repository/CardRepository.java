@@ -1,12 +1,13 @@
 package com.example.demo.card.repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.example.demo.card.dto.CardContentHashRow;
 import com.example.demo.card.entity.Card;
 import org.springframework.stereotype.Repository;
 
@@ -19,6 +20,15 @@ public interface CardRepository extends JpaRepository<Card,Long> {
     @Query("SELECT DISTINCT c FROM Card c LEFT JOIN FETCH c.benefits")
     List<Card> findAllWithBenefits();
 
-
-    Optional<Card> findByExternalId(Long externalId);
+    /**
+     * 크롤링 동기화용 외부 ID 일괄 조회
+     */
+    List<Card> findByExternalIdIn(Collection<Long> externalIds);
+
+    /**
+     * 크롤링 동기화용 외부 ID별 저장된 콘텐츠 해시 조회 (엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT new com.example.demo.card.dto.CardContentHashRow(c.externalId, c.contentHash) " +
+           "FROM Card c WHERE c.externalId IN :externalIds")
+    List<CardContentHashRow> findContentHashes(@Param("externalIds") Collection<Long> externalIds);
 }
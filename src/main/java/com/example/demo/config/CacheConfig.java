@@ -0,0 +1,48 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.example.demo.benefit.dto.MatchingCardsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * 사용자별 매장 매칭 결과 캐시 (키: {userId}:{정규화된 매장명})
+     */
+    public static final String MATCHING_CARDS = "matchingCards";
+
+    @Value("${benefit.cache.matching-ttl:10m}")
+    private Duration matchingCardsTtl;
+
+    @Bean
+    public RedisCacheManagerBuilderCustomizer matchingCardsCacheCustomizer(RedisConnectionFactory connectionFactory,
+                                                                           ObjectMapper objectMapper) {
+        RedisCacheConfiguration matchingCardsConfig = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(matchingCardsTtl)
+                .disableCachingNullValues()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                        new Jackson2JsonRedisSerializer<>(objectMapper, MatchingCardsResponse.class)));
+
+        return builder -> builder
+                // 캐시 전체 삭제 시 KEYS 대신 SCAN 사용 (Redis 블로킹 방지)
+                .cacheWriter(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory, BatchStrategies.scan(1000)))
+                .withCacheConfiguration(MATCHING_CARDS, matchingCardsConfig);
+    }
+}
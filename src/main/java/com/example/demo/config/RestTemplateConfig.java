@@ -1,16 +1,120 @@
 package com.example.demo.config;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
 public class RestTemplateConfig {
-    
+
+    /**
+     * 카카오 Local API 전용 RestTemplate
+     * 요청 지연은 RestTemplateBuilder 관측 설정으로 http.client.requests 에 기록
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate kakaoRestTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient kakaoHttpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(kakaoHttpClient))
+                .build();
     }
-}
 
+    /**
+     * 카카오 Local API 호출용 HTTP 클라이언트 (애플리케이션 종료 시 풀과 함께 close)
+     *
+     * - 커넥션 풀 (전체 / 라우트별 상한) + keep-alive 재사용
+     * - 연결 / 응답 / 풀 대기 타임아웃으로 느린 응답이 요청 스레드를 무한정 잡지 않도록 제한
+     * - 메트릭: 풀 사용량(httpcomponents.httpclient.pool.*), 풀 대기 시간(kakao.http.pool.wait)
+     */
+    @Bean
+    public CloseableHttpClient kakaoHttpClient(
+            MeterRegistry meterRegistry,
+            @Value("${kakao.http.max-total:50}") int maxTotal,
+            @Value("${kakao.http.max-per-route:20}") int maxPerRoute,
+            @Value("${kakao.http.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${kakao.http.response-timeout:3s}") Duration responseTimeout,
+            @Value("${kakao.http.pool-wait-timeout:500ms}") Duration poolWaitTimeout,
+            @Value("${kakao.http.connection-ttl:1m}") Duration connectionTtl,
+            @Value("${kakao.http.idle-eviction:30s}") Duration idleEviction) {
+
+        Timer poolWaitTimer = Timer.builder("kakao.http.pool.wait")
+                .description("카카오 API 커넥션 풀 대기 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
 
+        MeteredConnectionManager connectionManager = new MeteredConnectionManager(poolWaitTimer);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(responseTimeout))
+                .setTimeToLive(TimeValue.of(connectionTtl))
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "kakao").bindTo(meterRegistry);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolWaitTimeout))
+                        .setResponseTimeout(Timeout.of(responseTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    /**
+     * 커넥션 임대(풀 대기) 시간을 기록하는 커넥션 매니저
+     */
+    private static class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer poolWaitTimer;
+
+        MeteredConnectionManager(Timer poolWaitTimer) {
+            this.poolWaitTimer = poolWaitTimer;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return delegate.get(timeout);
+                    } finally {
+                        poolWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return delegate.cancel();
+                }
+            };
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.demo.controller;
 
+import com.example.demo.benefit.dto.BatchMatchingRequest;
+import com.example.demo.benefit.dto.BatchMatchingResponse;
+import com.example.demo.benefit.dto.BestCardsResponse;
 import com.example.demo.benefit.dto.MatchingCardsResponse;
+import com.example.demo.benefit.service.BenefitRankingService;
 import com.example.demo.benefit.service.OptimalBenefitService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +19,10 @@ import java.util.List;
 @Slf4j
 public class BenefitController {
     
+    private static final int MAX_BATCH_STORES = 50;
+    
     private final OptimalBenefitService optimalBenefitService;
+    private final BenefitRankingService benefitRankingService;
     
     /**
      * 매장별 매칭 카드 조회 (실시간 데이터)
@@ -42,4 +49,58 @@ public class BenefitController {
                     new MatchingCardsResponse(List.of()));
         }
     }
+
+    /**
+     * 여러 매장의 매칭 카드 일괄 조회 (지도 화면 등)
+     * 보유 카드 / 실적 / 사용 금액을 한 번만 조회해 모든 매장에 적용
+     */
+    @PostMapping("/matching/batch")
+    public ResponseEntity<BatchMatchingResponse> getMatchingCardsBatch(
+            @RequestBody BatchMatchingRequest request) {
+
+        Long userId = 1L; // 고정 사용자 ID
+
+        if (request.storeNames() == null || request.storeNames().isEmpty()
+                || request.storeNames().size() > MAX_BATCH_STORES) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            BatchMatchingResponse response = new BatchMatchingResponse(
+                    optimalBenefitService.getMatchingCardsForStores(request.storeNames(), userId));
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("매칭 카드 일괄 조회 실패", e);
+            return ResponseEntity.badRequest().body(
+                    new BatchMatchingResponse(List.of()));
+        }
+    }
+
+    /**
+     * 결제 예정 금액 기준 최적 카드 순위 조회
+     * 보유 카드 중 실적 달성 카드의 예상 혜택(할인/포인트/캐시백)을 계산해 상위 limit 개 반환 (limit 최대 20)
+     */
+    @GetMapping("/best")
+    public ResponseEntity<BestCardsResponse> getBestCards(
+            @RequestParam String storeName,
+            @RequestParam Long amount,
+            @RequestParam(defaultValue = "3") int limit) {
+
+        Long userId = 1L; // 고정 사용자 ID
+
+        if (amount == null || amount <= 0 || limit <= 0 || limit > BenefitRankingService.MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            BestCardsResponse response = benefitRankingService.getBestCards(storeName, userId, amount, limit);
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("최적 카드 순위 조회 실패", e);
+            return ResponseEntity.badRequest().body(
+                    new BestCardsResponse(amount, List.of()));
+        }
+    }
 }
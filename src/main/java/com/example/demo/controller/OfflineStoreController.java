@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.benefit.catalog.CategoryMask;
 import com.example.demo.card.entity.Card;
 import com.example.demo.card.repository.CardRepository;
 import com.example.demo.store.dto.*;
@@ -9,10 +10,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 @RestController
 @RequestMapping("/api/simple-stores")
@@ -20,6 +22,9 @@ import java.util.Map;
 @Slf4j
 public class OfflineStoreController {
     
+    private static final int DEFAULT_SEARCH_PAGES = 3;
+    private static final int MAX_SEARCH_CATEGORIES = 5;
+
     private final CardRepository cardRepository;
     private final KakaoMapService kakaoMapService;
     private final StoreCardMatchingService storeCardMatchingService;
@@ -41,11 +46,47 @@ public class OfflineStoreController {
         }
         
         // 2. 카카오 API로 장소 검색
-        List<Map<String, Object>> stores = kakaoMapService.searchPlaces(request.cat(), request.lat(), request.lng());
+        List<KakaoPlace> stores = kakaoMapService.searchPlaces(request.cat(), request.lat(), request.lng());
         
         // 3. 각 매장에 대해 실제 카드 혜택 매칭
         List<StoreInfoDTO> storesWithCards = storeCardMatchingService.matchStoresWithCards(stores, userCards);
         
         return ResponseEntity.ok(new StoreSearchResponse(storesWithCards));
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 카테고리 + 여러 페이지 동시 검색 후 매장 추천 (카드 혜택 포함)
+     * 카카오 응답이 도착하는 대로 매칭하고, 모든 페이지가 끝나면 한 번에 응답
+     * 카테고리는 카카오 카테고리 그룹 코드 최대 5개, 페이지는 1 ~ 5 까지 허용 (그 외 400)
+     */
+    @PostMapping("/search/multi")
+    public Mono<ResponseEntity<StoreSearchResponse>> searchStoresWithCardsMulti(
+            @RequestBody StoreMultiSearchRequest request) {
+
+        int pages = request.pages() != null ? request.pages() : DEFAULT_SEARCH_PAGES;
+
+        if (request.lat() == null || request.lng() == null
+                || request.cats() == null || request.cats().isEmpty()
+                || request.cats().size() > MAX_SEARCH_CATEGORIES
+                || !request.cats().stream().allMatch(CategoryMask::isKnown)
+                || pages < 1 || pages > KakaoMapService.MAX_ASYNC_PAGES) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        Long userId = 1L;
+
+        // 1. 사용자 카드 목록 조회
+        List<Card> userCards = cardRepository.findByUserId(userId);
+
+        if (userCards.isEmpty()) {
+            return Mono.just(ResponseEntity.ok(new StoreSearchResponse(new ArrayList<>())));
+        }
+
+        // 2. 카카오 API 동시 검색 결과를 도착 순서대로 카드 혜택 매칭
+        Flux<KakaoPlace> stores = kakaoMapService.searchPlacesAsync(request.cats(), request.lat(), request.lng(), pages);
+
+        return storeCardMatchingService.matchStoresWithCards(stores, userCards, null)
+                .collectList()
+                .map(storesWithCards -> ResponseEntity.ok(new StoreSearchResponse(storesWithCards)));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 혜택 카탈로그 스냅샷 교체 완료 이벤트
+ */
+@Getter
+@Builder
+public class BenefitCatalogRefreshedEvent {
+    private long version;
+    private LocalDateTime refreshedAt;
+}
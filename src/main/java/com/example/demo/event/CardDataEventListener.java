@@ -5,7 +5,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
-import com.example.demo.event.service.CardDataChangeDetectionService;
+import com.example.demo.event.service.CardSyncEngine;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,7 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CardDataEventListener {
     
-    private final CardDataChangeDetectionService changeDetectionService;
+    private final CardSyncEngine cardSyncEngine;
     
     /**
      * 카드 데이터 수신 이벤트 처리 (1순위: 데이터 변경 감지)
@@ -28,8 +28,8 @@ public class CardDataEventListener {
                 event.getSource(), event.getReceivedAt());
         
         try {
-            // 실제 데이터 변경 감지 및 처리
-            changeDetectionService.processCardDataChanges(event.getCrawledData());
+            // 실제 데이터 변경 감지 및 처리 (카드 ID 파티션별 병렬, 청크 단위 트랜잭션)
+            cardSyncEngine.processCardDataChanges(event.getCrawledData());
             
             log.info("카드 데이터 변경 감지 및 처리 완료 - 소스: {}", event.getSource());
             
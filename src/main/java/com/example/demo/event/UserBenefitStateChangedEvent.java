@@ -0,0 +1,18 @@
+package com.example.demo.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 혜택 상태 변경 이벤트
+ * 보유 카드 / 실적 / 혜택 사용 금액이 바뀌어 매칭 결과가 달라질 때 발행
+ */
+@Getter
+@Builder
+public class UserBenefitStateChangedEvent {
+    private Long userId;
+    private String reason; // CARD_REGISTERED, CARD_UNREGISTERED, EXPENSE_PROCESSED
+    private LocalDateTime occurredAt;
+}
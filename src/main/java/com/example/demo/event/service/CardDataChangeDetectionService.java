@@ -1,5 +1,6 @@
 package com.example.demo.event.service;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
@@ -8,8 +9,11 @@ import com.example.demo.benefit.application.dto.ChannelType;
 import com.example.demo.benefit.entity.CashbackBenefit;
 import com.example.demo.benefit.entity.DiscountBenefit;
 import com.example.demo.benefit.entity.PointBenefit;
+import com.example.demo.card.dto.CardContentHashRow;
 import com.example.demo.card.entity.CardBenefit;
 import com.example.demo.card.repository.CardBenefitRepository;
+import com.example.demo.event.CardDataProcessedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,147 +34,257 @@ public class CardDataChangeDetectionService {
     private final CardBenefitRepository cardBenefitRepository;
     private final BenefitRepository benefitRepository;
     private final CardRepository cardRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private static final int PRELOAD_CHUNK_SIZE = 1000;
 
     /**
-     * 크롤링된 카드 데이터 처리 및 변경 감지
+     * 크롤링 카드 청크 동기화 (청크 하나 = 트랜잭션 하나, 처리 완료 이벤트는 발행하지 않음)
+     * CardSyncEngine 이 외부 카드 ID 로 파티션을 나눠 워커마다 청크 단위로 호출하고, 전체 결과로 publishProcessed 를 호출한다.
+     *
+     * 카드 / 카드-혜택 매핑 / 혜택(하위 혜택 포함)을 외부 ID 기준으로 IN 쿼리 몇 번에 미리 조회하고,
+     * 메모리에서 비교한 뒤 신규 엔티티는 단계별로 모아서 저장한다 (기존 엔티티는 변경 감지로 반영).
+     *
+     * 카드 / 혜택별 콘텐츠 해시를 먼저 비교해 해시가 같은 카드는 엔티티를 읽지 않고 건너뛰고,
+     * 변경된 카드 안에서도 해시가 같은 혜택은 하위 혜택을 로딩 / 비교하지 않는다.
      */
     @Transactional
-    public void processCardDataChanges(Object crawledData) {
-        log.info("크롤링된 카드 데이터 처리 시작");
-        
-        try {
-            // gRPC 데이터 타입 확인 및 처리
-            if (crawledData instanceof CardData.CrawledBenefitList) {
-                processCrawledBenefitList((CardData.CrawledBenefitList) crawledData);
+    public CardSyncResult syncCrawledCards(List<CardData.CrawledBenefit> receivedCards) {
+        int updateCount = 0;
+        int createCount = 0;
+        int unchangedCount = 0;
+        int failedCount = 0;
+
+        // 1. 콘텐츠 해시 비교로 변경된 카드만 선별
+        Map<Long, String> cardHashes = new HashMap<>();
+        Map<Long, String> benefitHashes = new HashMap<>();
+        for (CardData.CrawledBenefit crawledCard : receivedCards) {
+            cardHashes.put(crawledCard.getCardId(), CrawlContentHasher.hash(crawledCard));
+            for (CardData.Benefit protoBenefit : crawledCard.getBenefitsList()) {
+                benefitHashes.put(protoBenefit.getBenefitId(), CrawlContentHasher.hash(protoBenefit));
+            }
+        }
+
+        Map<Long, String> storedCardHashes = new HashMap<>();
+        for (List<Long> chunk : chunks(cardHashes.keySet())) {
+            for (CardContentHashRow row : cardRepository.findContentHashes(chunk)) {
+                storedCardHashes.put(row.externalId(), row.contentHash());
+            }
+        }
+
+        List<CardData.CrawledBenefit> crawledCards = new ArrayList<>();
+        for (CardData.CrawledBenefit crawledCard : receivedCards) {
+            if (Objects.equals(storedCardHashes.get(crawledCard.getCardId()), cardHashes.get(crawledCard.getCardId()))) {
+                unchangedCount++;
             } else {
-                log.warn("지원하지 않는 데이터 타입: {}", crawledData.getClass().getSimpleName());
+                crawledCards.add(crawledCard);
             }
-        } catch (Exception e) {
-            log.error("크롤링된 카드 데이터 처리 중 오류 발생", e);
         }
-        
-        log.info("크롤링된 카드 데이터 처리 완료");
-    }
+        log.info("콘텐츠 해시 비교 - 수신: {}, 변경 후보: {}, 해시 일치(건너뜀): {}",
+                receivedCards.size(), crawledCards.size(), unchangedCount);
 
-    /**
-     * CrawledBenefitList 데이터 처리
-     */
-    @Transactional
-    public void processCrawledBenefitList(CardData.CrawledBenefitList crawledBenefitList) {
-        int updateCount = 0;
-        int createCount = 0;
+        // 2. 변경 후보 카드의 기존 데이터 일괄 조회
+        CardSyncLookup lookup = preload(crawledCards, benefitHashes);
 
-        for (CardData.CrawledBenefit crawledCard : crawledBenefitList.getCrawledBenefitList()) {
+        // 3. 카드 기본 정보 비교 (신규 카드는 모아서 저장)
+        Map<Long, Card> syncedCards = new LinkedHashMap<>();
+        Set<Long> newCardIds = new HashSet<>();
+        Set<Long> changedCardIds = new HashSet<>();
+        List<Card> newCards = new ArrayList<>();
+
+        for (CardData.CrawledBenefit crawledCard : crawledCards) {
             try {
-                // 1. 카드 조회 또는 생성
-                Card card = cardRepository.findByExternalId(crawledCard.getCardId())
-                        .map(existingCard -> updateCardIfNeeded(existingCard, crawledCard))
-                        .orElseGet(() -> createCard(crawledCard));
+                Card card = lookup.findCard(crawledCard.getCardId());
+                if (card == null) {
+                    card = createCard(crawledCard);
+                    newCards.add(card);
+                    lookup.addCard(card);
+                    newCardIds.add(crawledCard.getCardId());
+                } else if (updateCardIfNeeded(card, crawledCard)) {
+                    changedCardIds.add(crawledCard.getCardId());
+                }
+                syncedCards.put(crawledCard.getCardId(), card);
+            } catch (Exception e) {
+                failedCount++;
+                log.error("카드 동기화 실패: 카드사 {}, 이름 {}", crawledCard.getCardBank(), crawledCard.getCardName(), e);
+            }
+        }
+        cardRepository.saveAll(newCards);
 
-                // 2. 카드-혜택 매핑 동기화
-                boolean changed = syncCardBenefits(card, crawledCard.getBenefitsList());
+        // 4. 카드-혜택 매핑 / 혜택 비교 (신규 혜택, 신규 매핑은 모아서 저장, 성공한 카드만 해시 갱신)
+        List<Benefit> newBenefits = new ArrayList<>();
+        List<CardBenefit> newCardBenefits = new ArrayList<>();
 
-                if (changed) {
+        for (CardData.CrawledBenefit crawledCard : crawledCards) {
+            Card card = syncedCards.get(crawledCard.getCardId());
+            if (card == null) {
+                continue;
+            }
+
+            try {
+                boolean changed = syncCardBenefits(card, crawledCard.getBenefitsList(), lookup, benefitHashes,
+                        newBenefits, newCardBenefits);
+                card.updateContentHash(cardHashes.get(crawledCard.getCardId()));
+
+                if (newCardIds.contains(crawledCard.getCardId())) {
+                    createCount++;
+                } else if (changed || changedCardIds.contains(crawledCard.getCardId())) {
                     updateCount++;
                     log.info("변경된 카드 저장 완료: id={}, name={}", card.getId(), card.getCardName());
                 } else {
-                    createCount++;
+                    unchangedCount++;
                 }
             } catch (Exception e) {
+                failedCount++;
                 log.error("카드 동기화 실패: 카드사 {}, 이름 {}", crawledCard.getCardBank(), crawledCard.getCardName(), e);
             }
         }
+        benefitRepository.saveAll(newBenefits);
+        cardBenefitRepository.saveAll(newCardBenefits);
+
+        log.info("동기화 완료 - 변경 카드: {}, 신규 카드: {}, 무변경: {}, 실패: {}",
+                updateCount, createCount, unchangedCount, failedCount);
 
-        log.info("동기화 완료 - 변경 카드: {}, 신규 카드: {}", updateCount, createCount);
+        return new CardSyncResult(receivedCards.size(), updateCount, createCount, unchangedCount, failedCount);
     }
 
-    private Card updateCardIfNeeded(Card card, CardData.CrawledBenefit crawledCard) {
-        boolean changed = false;
+    /**
+     * 처리 완료 이벤트 발행 (커밋 이후 혜택 카탈로그 재생성 등 후처리)
+     */
+    public void publishProcessed(CardSyncResult result) {
+        eventPublisher.publishEvent(CardDataProcessedEvent.builder()
+                .totalReceived(result.received())
+                .changedCount(result.changed())
+                .newCount(result.created())
+                .unchangedCount(result.unchanged())
+                .processedAt(LocalDateTime.now())
+                .status(result.status())
+                .build());
+    }
 
-        if (!crawledCard.getCardName().equals(card.getCardName())) {
-            card = card.builder().cardName(crawledCard.getCardName()).build();
-            changed = true;
+    /**
+     * 크롤링 데이터가 참조하는 카드 / 카드-혜택 매핑 / 혜택을 외부 ID 기준으로 일괄 조회
+     * 해시가 달라진 혜택은 하위 혜택과 적용 대상 컬렉션도 컬렉션별 IN 쿼리로 미리 채워 비교 중 지연 로딩이 일어나지 않도록 한다.
+     */
+    private CardSyncLookup preload(List<CardData.CrawledBenefit> crawledCards, Map<Long, String> benefitHashes) {
+        Set<Long> cardExternalIds = new LinkedHashSet<>();
+        Set<Long> benefitExternalIds = new LinkedHashSet<>();
+        for (CardData.CrawledBenefit crawledCard : crawledCards) {
+            cardExternalIds.add(crawledCard.getCardId());
+            for (CardData.Benefit protoBenefit : crawledCard.getBenefitsList()) {
+                benefitExternalIds.add(protoBenefit.getBenefitId());
+            }
         }
-        if (!crawledCard.getCardBank().equals(card.getCardBank())) {
-            card = card.builder().cardBank(crawledCard.getCardBank()).build();
-            changed = true;
+
+        List<Card> cards = new ArrayList<>();
+        for (List<Long> chunk : chunks(cardExternalIds)) {
+            cards.addAll(cardRepository.findByExternalIdIn(chunk));
         }
-        if (!crawledCard.getImgUrl().equals(card.getImgUrl())) {
-            card = card.builder().imgUrl(crawledCard.getImgUrl()).build();
-            changed = true;
+
+        List<CardBenefit> cardBenefits = new ArrayList<>();
+        for (List<Long> chunk : chunks(cards.stream().map(Card::getId).toList())) {
+            cardBenefits.addAll(cardBenefitRepository.findByCardIdInWithBenefit(chunk));
         }
-        if (!crawledCard.getType().equals(card.getType())) {
-            card = card.builder().type(crawledCard.getType()).build();
-            changed = true;
+
+        // 크롤링 데이터의 혜택 + 기존 매핑에 연결된 혜택 (같은 엔티티 인스턴스로 영속성 컨텍스트에 로딩)
+        for (CardBenefit cardBenefit : cardBenefits) {
+            benefitExternalIds.add(cardBenefit.getBenefit().getExternalId());
+        }
+        List<Benefit> benefits = new ArrayList<>();
+        for (List<Long> chunk : chunks(benefitExternalIds)) {
+            benefits.addAll(benefitRepository.findByExternalIdIn(chunk));
         }
 
-        if (changed) {
-            return cardRepository.save(card);
+        List<Long> changedBenefitIds = benefits.stream()
+                .filter(benefit -> !Objects.equals(benefit.getContentHash(), benefitHashes.get(benefit.getExternalId())))
+                .map(Benefit::getId)
+                .toList();
+        for (List<Long> chunk : chunks(changedBenefitIds)) {
+            benefitRepository.fetchDiscountBenefits(chunk);
+            benefitRepository.fetchPointBenefits(chunk);
+            benefitRepository.fetchCashbackBenefits(chunk);
+            benefitRepository.fetchApplicableCategory(chunk);
+            benefitRepository.fetchApplicableTargets(chunk);
         }
-        return card;
+
+        log.info("동기화 대상 일괄 조회 - 카드: {}, 카드-혜택 매핑: {}, 혜택: {} (변경: {})",
+                cards.size(), cardBenefits.size(), benefits.size(), changedBenefitIds.size());
+
+        return new CardSyncLookup(cards, cardBenefits, benefits);
+    }
+
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> values = new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += PRELOAD_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + PRELOAD_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+
+    private boolean updateCardIfNeeded(Card card, CardData.CrawledBenefit crawledCard) {
+        return card.update(crawledCard.getCardName(), crawledCard.getCardBank(),
+                crawledCard.getImgUrl(), crawledCard.getType());
     }
 
     private Card createCard(CardData.CrawledBenefit crawledCard) {
-        Card card = Card.builder()
+        return Card.builder()
                 .cardName(crawledCard.getCardName())
                 .cardBank(crawledCard.getCardBank())
                 .imgUrl(crawledCard.getImgUrl())
                 .type(crawledCard.getType())
                 .externalId(crawledCard.getCardId())
                 .build();
-        return cardRepository.save(card);
     }
 
-    private boolean syncCardBenefits(Card card, List<CardData.Benefit> benefitList) {
+    private boolean syncCardBenefits(Card card, List<CardData.Benefit> benefitList, CardSyncLookup lookup,
+                                     Map<Long, String> benefitHashes,
+                                     List<Benefit> newBenefits, List<CardBenefit> newCardBenefits) {
         boolean hasChanges = false;
 
-        // 현재 DB에 저장된 카드-혜택 관계 조회
-        List<CardBenefit> existingCardBenefits = cardBenefitRepository.findByCard(card);
-
-        Map<Long, CardBenefit> existingBenefitMap = existingCardBenefits.stream()
-                .collect(Collectors.toMap(cb -> cb.getBenefit().getExternalId(), cb -> cb));
-
         for (CardData.Benefit protoBenefit : benefitList) {
-            Long benefitExtId = protoBenefit.getBenefitId();
-
-            Optional<CardBenefit> cardBenefitOpt = Optional.ofNullable(existingBenefitMap.get(benefitExtId));
-            if (cardBenefitOpt.isPresent()) {
+            long benefitExtId = protoBenefit.getBenefitId();
+            String benefitHash = benefitHashes.get(benefitExtId);
 
-                // 기존 혜택 업데이트 및 저장 여부 판단
-                CardBenefit cardBenefit = cardBenefitOpt.get();
-                Benefit benefit = cardBenefit.getBenefit();
-                boolean benefitChanged = updateBenefitIfNeeded(benefit, protoBenefit);
-                if (benefitChanged) {
-                    benefitRepository.save(benefit);
+            CardBenefit cardBenefit = lookup.findCardBenefit(card.getId(), benefitExtId);
+            if (cardBenefit != null) {
+                // 기존 혜택 업데이트 (해시가 같으면 비교 생략, 변경 감지로 커밋 시 반영)
+                if (syncBenefit(cardBenefit.getBenefit(), protoBenefit, benefitHash)) {
                     hasChanges = true;
                 }
-                existingBenefitMap.remove(benefitExtId);
+                continue;
+            }
+
+            // 신규 관계 생성 (혜택은 다른 카드에 이미 있으면 재사용, 없으면 생성)
+            Benefit benefit = lookup.findBenefit(benefitExtId);
+            if (benefit == null) {
+                benefit = createBenefit(protoBenefit);
+                benefit.updateContentHash(benefitHash);
+                newBenefits.add(benefit);
+                lookup.addBenefit(benefit);
             } else {
-                // 신규 혜택 및 관계 생성
-                Benefit newBenefit = findOrCreateBenefit(protoBenefit);
-                CardBenefit newCardBenefit = CardBenefit.builder()
-                        .card(card)
-                        .benefit(newBenefit)
-                        .build();
-                cardBenefitRepository.save(newCardBenefit);
-                hasChanges = true;
+                syncBenefit(benefit, protoBenefit, benefitHash);
             }
+
+            CardBenefit newCardBenefit = CardBenefit.builder()
+                    .card(card)
+                    .benefit(benefit)
+                    .build();
+            newCardBenefits.add(newCardBenefit);
+            lookup.addCardBenefit(newCardBenefit);
+            hasChanges = true;
         }
 
         return hasChanges;
     }
 
-    private boolean updateBenefitIfNeeded(Benefit benefit, CardData.Benefit protoBenefit) {
-        return updateBenefitDetails(benefit, protoBenefit);
-    }
-
-
-    private Benefit findOrCreateBenefit(CardData.Benefit protoBenefit) {
-        return benefitRepository.findByExternalId(protoBenefit.getBenefitId())
-                .map(existingBenefit -> updateDiscountBenefits(existingBenefit, protoBenefit.getDiscountsList())
-                        ? benefitRepository.save(existingBenefit)
-                        : existingBenefit)
-                .orElseGet(() -> createBenefit(protoBenefit));
+    private boolean syncBenefit(Benefit benefit, CardData.Benefit protoBenefit, String benefitHash) {
+        if (Objects.equals(benefit.getContentHash(), benefitHash)) {
+            return false;
+        }
+        boolean changed = updateBenefitDetails(benefit, protoBenefit);
+        benefit.updateContentHash(benefitHash);
+        return changed;
     }
 
     private boolean updateDiscountBenefits(Benefit benefit, List<CardData.DiscountBenefit> protoDiscounts) {
@@ -263,7 +377,7 @@ public class CardDataChangeDetectionService {
         }
 
         existingMap.values().forEach(dbDiscount -> {
-            benefit.getDiscountBenefits().remove(dbDiscount);
+            benefit.getPointBenefits().remove(dbDiscount);
             hasChanges.set(true);
         });
 
@@ -285,6 +399,7 @@ public class CardDataChangeDetectionService {
                         .benefit(benefit)
                         .externalId(extId)
                         .rate(proto.getRate())
+                        .amount(proto.getAmount())
                         .minimumAmount(proto.getMinimumAmount())
                         .benefitLimit(proto.getBenefitLimit())
                         .channel(ChannelType.valueOf(proto.getChannel().name()))
@@ -312,7 +427,7 @@ public class CardDataChangeDetectionService {
         }
 
         existingMap.values().forEach(dbDiscount -> {
-            benefit.getDiscountBenefits().remove(dbDiscount);
+            benefit.getCashbackBenefits().remove(dbDiscount);
             hasChanges.set(true);
         });
 
@@ -343,13 +458,18 @@ public class CardDataChangeDetectionService {
     }
 
 
+    /**
+     * 신규 혜택 생성 (하위 혜택까지 채워서 반환, 저장은 호출하는 쪽에서 일괄 처리)
+     */
     private Benefit createBenefit(CardData.Benefit protoBenefit) {
         Benefit benefit = Benefit.builder()
                 .externalId(protoBenefit.getBenefitId())
                 .applicableCategory(new ArrayList<>(protoBenefit.getApplicableCategoryList()))
                 .applicableTargets(new ArrayList<>(protoBenefit.getApplicableTargetsList()))
                 .build();
-        return benefitRepository.save(benefit);
+        updateDiscountBenefits(benefit, protoBenefit.getDiscountsList());
+        updatePointBenefits(benefit, protoBenefit.getPointsList());
+        updateCashbackBenefits(benefit, protoBenefit.getCashbacksList());
+        return benefit;
     }
 }
-
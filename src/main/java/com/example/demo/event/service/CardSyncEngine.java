@@ -0,0 +1,162 @@
+package com.example.demo.event.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.sub.grpc.CardData;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링 카드 병렬 동기화
+ *
+ * - 외부 카드 ID 로 파티션을 나눠 같은 카드는 항상 같은 파티션에서 수신 순서대로 처리한다.
+ * - 파티션은 워커 풀에서 동시에 처리하고, 파티션 안에서는 chunk-size 개씩 짧은 트랜잭션으로 반영한다
+ *   (락 보유 시간은 청크 하나 처리 시간으로 제한되고, 실패해도 해당 청크만 버려진다).
+ * - 워커 수는 커넥션 풀(Hikari 기본 10)을 넘지 않도록 기본값을 제한한다.
+ */
+@Service
+@Slf4j
+public class CardSyncEngine {
+
+    private static final int MAX_CHUNK_ATTEMPTS = 3;
+
+    private final CardDataChangeDetectionService changeDetectionService;
+    private final ThreadPoolExecutor workers;
+    private final int partitionCount;
+    private final int chunkSize;
+
+    public CardSyncEngine(CardDataChangeDetectionService changeDetectionService,
+                          @Value("${card-sync.workers:0}") int workerCount,
+                          @Value("${card-sync.chunk-size:100}") int chunkSize) {
+        this.changeDetectionService = changeDetectionService;
+        this.partitionCount = workerCount > 0
+                ? workerCount
+                : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        this.chunkSize = chunkSize;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(partitionCount, partitionCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(partitionCount * 4),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "card-sync-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 동시에 여러 동기화가 몰려 큐가 차면 호출 스레드에서 직접 처리 (작업을 버리지 않고 유입 속도를 늦춤)
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 크롤링 데이터 처리 및 변경 감지 후 처리 완료 이벤트 발행
+     */
+    public void processCardDataChanges(Object crawledData) {
+        log.info("크롤링된 카드 데이터 처리 시작");
+
+        try {
+            // gRPC 데이터 타입 확인 및 처리
+            if (crawledData instanceof CardData.CrawledBenefitList crawledBenefitList) {
+                changeDetectionService.publishProcessed(sync(crawledBenefitList.getCrawledBenefitList()));
+            } else {
+                log.warn("지원하지 않는 데이터 타입: {}", crawledData.getClass().getSimpleName());
+            }
+        } catch (Exception e) {
+            log.error("크롤링된 카드 데이터 처리 중 오류 발생", e);
+        }
+
+        log.info("크롤링된 카드 데이터 처리 완료");
+    }
+
+    /**
+     * 파티션별 병렬 동기화 (모든 파티션이 끝날 때까지 대기, 이벤트는 발행하지 않음)
+     */
+    public CardSyncResult sync(List<CardData.CrawledBenefit> crawledCards) {
+        if (crawledCards.isEmpty()) {
+            return CardSyncResult.empty();
+        }
+
+        List<List<CardData.CrawledBenefit>> partitions = partition(crawledCards);
+        List<CompletableFuture<CardSyncResult>> futures = new ArrayList<>(partitions.size());
+        for (List<CardData.CrawledBenefit> partition : partitions) {
+            futures.add(CompletableFuture.supplyAsync(() -> syncPartition(partition), workers));
+        }
+
+        CardSyncResult total = CardSyncResult.empty();
+        for (CompletableFuture<CardSyncResult> future : futures) {
+            total = total.plus(future.join());
+        }
+
+        log.info("병렬 동기화 완료 - 파티션: {}, 수신: {}, 변경: {}, 신규: {}, 무변경: {}, 실패: {}",
+                partitions.size(), total.received(), total.changed(), total.created(), total.unchanged(), total.failed());
+        return total;
+    }
+
+    public void publishProcessed(CardSyncResult result) {
+        changeDetectionService.publishProcessed(result);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * 외부 카드 ID 기준 파티션 (파티션 안에서는 수신 순서 유지, 빈 파티션 제외)
+     */
+    private List<List<CardData.CrawledBenefit>> partition(List<CardData.CrawledBenefit> crawledCards) {
+        List<List<CardData.CrawledBenefit>> partitions = new ArrayList<>(partitionCount);
+        for (int i = 0; i < partitionCount; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (CardData.CrawledBenefit crawledCard : crawledCards) {
+            partitions.get(Math.floorMod(Long.hashCode(crawledCard.getCardId()), partitionCount)).add(crawledCard);
+        }
+        partitions.removeIf(List::isEmpty);
+        return partitions;
+    }
+
+    private CardSyncResult syncPartition(List<CardData.CrawledBenefit> partition) {
+        CardSyncResult result = CardSyncResult.empty();
+        for (int from = 0; from < partition.size(); from += chunkSize) {
+            result = result.plus(syncChunk(partition.subList(from, Math.min(from + chunkSize, partition.size()))));
+        }
+        return result;
+    }
+
+    /**
+     * 청크 하나를 트랜잭션 하나로 반영
+     * 여러 카드가 공유하는 혜택을 다른 파티션이 동시에 생성하면 외부 ID 유니크 제약에 걸리므로,
+     * 이 경우에는 상대 트랜잭션이 커밋된 뒤 다시 조회하도록 청크를 재시도한다.
+     * 공유 혜택 행을 서로 다른 순서로 갱신하다 생기는 데드락 / 락 대기 시간 초과
+     * (CannotAcquireLockException, PessimisticLockingFailureException 등 TransientDataAccessException)도
+     * 상대 트랜잭션이 끝나면 성공할 수 있으므로 같은 방식으로 재시도한다.
+     */
+    private CardSyncResult syncChunk(List<CardData.CrawledBenefit> chunk) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return changeDetectionService.syncCrawledCards(chunk);
+            } catch (DataIntegrityViolationException | TransientDataAccessException e) {
+                if (attempt >= MAX_CHUNK_ATTEMPTS) {
+                    log.error("청크 동기화 실패 (재시도 초과) - 카드 {} 개", chunk.size(), e);
+                    return CardSyncResult.failedChunk(chunk.size());
+                }
+                log.warn("청크 동기화 중 동시 갱신 충돌({}), 재시도 {}/{} - 카드 {} 개",
+                        e.getClass().getSimpleName(), attempt, MAX_CHUNK_ATTEMPTS - 1, chunk.size());
+            } catch (Exception e) {
+                log.error("청크 동기화 실패 - 카드 {} 개", chunk.size(), e);
+                return CardSyncResult.failedChunk(chunk.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.event.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.demo.benefit.entity.Benefit;
+import com.example.demo.card.entity.Card;
+import com.example.demo.card.entity.CardBenefit;
+
+/**
+ * 크롤링 동기화 한 번에 필요한 기존 데이터 (외부 ID 기준으로 미리 일괄 조회해 메모리에서 비교)
+ * - 외부 카드 ID -> 카드
+ * - 카드 ID -> (외부 혜택 ID -> 카드-혜택 매핑)
+ * - 외부 혜택 ID -> 혜택 (하위 혜택 / 적용 대상 컬렉션까지 로딩된 상태)
+ */
+final class CardSyncLookup {
+
+    private final Map<Long, Card> cardsByExternalId = new HashMap<>();
+    private final Map<Long, Map<Long, CardBenefit>> cardBenefitsByCardId = new HashMap<>();
+    private final Map<Long, Benefit> benefitsByExternalId = new HashMap<>();
+
+    CardSyncLookup(List<Card> cards, List<CardBenefit> cardBenefits, List<Benefit> benefits) {
+        for (Card card : cards) {
+            cardsByExternalId.put(card.getExternalId(), card);
+        }
+        for (CardBenefit cardBenefit : cardBenefits) {
+            cardBenefitsByCardId.computeIfAbsent(cardBenefit.getCard().getId(), key -> new HashMap<>())
+                    .put(cardBenefit.getBenefit().getExternalId(), cardBenefit);
+        }
+        for (Benefit benefit : benefits) {
+            benefitsByExternalId.put(benefit.getExternalId(), benefit);
+        }
+    }
+
+    Card findCard(long externalCardId) {
+        return cardsByExternalId.get(externalCardId);
+    }
+
+    void addCard(Card card) {
+        cardsByExternalId.put(card.getExternalId(), card);
+    }
+
+    /**
+     * 카드에 이미 연결된 혜택 (없으면 null)
+     */
+    CardBenefit findCardBenefit(Long cardId, long externalBenefitId) {
+        if (cardId == null) {
+            return null;
+        }
+        Map<Long, CardBenefit> links = cardBenefitsByCardId.get(cardId);
+        return links != null ? links.get(externalBenefitId) : null;
+    }
+
+    void addCardBenefit(CardBenefit cardBenefit) {
+        cardBenefitsByCardId.computeIfAbsent(cardBenefit.getCard().getId(), key -> new HashMap<>())
+                .put(cardBenefit.getBenefit().getExternalId(), cardBenefit);
+    }
+
+    Benefit findBenefit(long externalBenefitId) {
+        return benefitsByExternalId.get(externalBenefitId);
+    }
+
+    void addBenefit(Benefit benefit) {
+        benefitsByExternalId.put(benefit.getExternalId(), benefit);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.event.service;
+
+/**
+ * 크롤링 카드 동기화 결과 (스트리밍 적재 시 청크별 결과를 누적)
+ */
+public record CardSyncResult(int received, int changed, int created, int unchanged, int failed) {
+
+    public static CardSyncResult empty() {
+        return new CardSyncResult(0, 0, 0, 0, 0);
+    }
+
+    /**
+     * 청크 전체가 저장되지 못한 경우 (트랜잭션 롤백)
+     */
+    public static CardSyncResult failedChunk(int received) {
+        return new CardSyncResult(received, 0, 0, 0, received);
+    }
+
+    public CardSyncResult plus(CardSyncResult other) {
+        return new CardSyncResult(received + other.received, changed + other.changed, created + other.created,
+                unchanged + other.unchanged, failed + other.failed);
+    }
+
+    public int processed() {
+        return changed + created + unchanged;
+    }
+
+    /**
+     * SUCCESS, PARTIAL_SUCCESS, FAILED
+     */
+    public String status() {
+        if (failed == 0) {
+            return "SUCCESS";
+        }
+        return failed < received ? "PARTIAL_SUCCESS" : "FAILED";
+    }
+}
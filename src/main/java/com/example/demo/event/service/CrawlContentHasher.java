@@ -0,0 +1,43 @@
+package com.example.demo.event.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * 크롤링 메시지 콘텐츠 해시 (SHA-256, hex)
+ *
+ * 결정적 직렬화(deterministic serialization)로 만든 protobuf 바이트를 해시하므로
+ * 같은 내용이면 항상 같은 값이 나온다. 카드 해시는 하위 혜택 전체를 포함한다.
+ */
+final class CrawlContentHasher {
+
+    private CrawlContentHasher() {
+    }
+
+    static String hash(MessageLite message) {
+        byte[] bytes = new byte[message.getSerializedSize()];
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(bytes);
+            output.useDeterministicSerialization();
+            message.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException("크롤링 데이터 직렬화 실패", e);
+        }
+        return HexFormat.of().formatHex(sha256().digest(bytes));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.example.demo.grpc;
 
 import com.example.demo.event.CardDataReceivedEvent;
+import com.example.demo.event.service.CardSyncEngine;
+import com.example.demo.event.service.CardSyncResult;
 import com.sub.grpc.CardDataServiceGrpc;
 import com.sub.grpc.CardData;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +23,10 @@ import java.time.LocalDateTime;
 public class CardDataServiceImpl extends CardDataServiceGrpc.CardDataServiceImplBase {
     
     private final ApplicationEventPublisher eventPublisher;
+    private final CardSyncEngine cardSyncEngine;
+
+    @Value("${grpc.card-data.stream-chunk-size:200}")
+    private int streamChunkSize;
     
     @Override
     public void saveCardData(CardData.CrawledBenefitList request, 
@@ -60,4 +70,85 @@ public class CardDataServiceImpl extends CardDataServiceGrpc.CardDataServiceImpl
             responseObserver.onCompleted();
         }
     }
+
+    /**
+     * 카드 단위 스트리밍 적재
+     *
+     * 자동 요청을 끄고 청크 크기만큼만 요청한 뒤, 받은 청크를 반영(CardSyncEngine 병렬 동기화)하고 나서야 다음 청크를 요청한다.
+     * 반영이 밀리면 서버가 더 읽지 않으므로 HTTP/2 흐름 제어 윈도우가 차고 클라이언트 전송이 멈춘다 (백프레셔).
+     * 스트림이 끝나면 누적 결과로 처리 완료 이벤트를 한 번 발행하고 실제 처리 건수를 응답한다.
+     */
+    @Override
+    public StreamObserver<CardData.CrawledBenefit> streamCardData(
+            StreamObserver<CardData.CardSyncSummary> responseObserver) {
+
+        ServerCallStreamObserver<CardData.CardSyncSummary> serverObserver =
+                (ServerCallStreamObserver<CardData.CardSyncSummary>) responseObserver;
+        serverObserver.disableAutoRequest();
+        serverObserver.request(streamChunkSize);
+
+        log.info("gRPC 스트리밍 적재 시작 - 청크 크기: {}", streamChunkSize);
+
+        return new StreamObserver<>() {
+
+            private final List<CardData.CrawledBenefit> buffer = new ArrayList<>(streamChunkSize);
+            private CardSyncResult total = CardSyncResult.empty();
+
+            @Override
+            public void onNext(CardData.CrawledBenefit crawledCard) {
+                buffer.add(crawledCard);
+                if (buffer.size() >= streamChunkSize) {
+                    applyBuffer();
+                    serverObserver.request(streamChunkSize);
+                }
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // 이미 반영된 청크는 커밋된 상태이므로 그 결과만으로 후처리
+                log.warn("gRPC 스트리밍 적재 중단 - 반영된 카드: {}, 미반영 버퍼: {}", total.received(), buffer.size(), t);
+                buffer.clear();
+                if (total.received() > 0) {
+                    cardSyncEngine.publishProcessed(total);
+                }
+            }
+
+            @Override
+            public void onCompleted() {
+                applyBuffer();
+                if (total.received() > 0) {
+                    cardSyncEngine.publishProcessed(total);
+                }
+
+                responseObserver.onNext(CardData.CardSyncSummary.newBuilder()
+                        .setSuccess(total.failed() == 0)
+                        .setMessage("카드 데이터 스트리밍 적재 완료 (" + total.status() + ")")
+                        .setReceivedCount(total.received())
+                        .setProcessedCount(total.processed())
+                        .setChangedCount(total.changed())
+                        .setNewCount(total.created())
+                        .setUnchangedCount(total.unchanged())
+                        .setFailedCount(total.failed())
+                        .build());
+                responseObserver.onCompleted();
+
+                log.info("gRPC 스트리밍 적재 완료 - 수신: {}, 변경: {}, 신규: {}, 무변경: {}, 실패: {}",
+                        total.received(), total.changed(), total.created(), total.unchanged(), total.failed());
+            }
+
+            private void applyBuffer() {
+                if (buffer.isEmpty()) {
+                    return;
+                }
+                List<CardData.CrawledBenefit> chunk = List.copyOf(buffer);
+                buffer.clear();
+                try {
+                    total = total.plus(cardSyncEngine.sync(chunk));
+                } catch (Exception e) {
+                    log.error("gRPC 스트리밍 청크 반영 실패 - 카드 {} 개", chunk.size(), e);
+                    total = total.plus(CardSyncResult.failedChunk(chunk.size()));
+                }
+            }
+        };
+    }
 }
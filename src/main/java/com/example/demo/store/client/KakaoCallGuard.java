@@ -0,0 +1,151 @@
+package com.example.demo.store.client;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 카카오 API 호출 보호 (서킷 브레이커 + stale-while-revalidate)
+ *
+ * - 서킷 브레이커: 실패율 / 느린 호출 비율이 임계치를 넘으면 일정 시간 호출 차단 후 일부 호출로 복구 확인
+ * - stale-while-revalidate: 서킷이 열려 있거나 호출이 serve-after 보다 오래 걸리면 마지막 정상 응답을 먼저 반환하고,
+ *   진행 중인 호출은 백그라운드에서 끝까지 수행해 캐시를 갱신한다.
+ * - 메트릭: resilience4j.circuitbreaker.* (상태 / 호출 결과), kakao.api.fallback (대체 응답 사용 / 미스 사유별)
+ */
+@Component
+@Slf4j
+public class KakaoCallGuard {
+
+    private static final String CIRCUIT_BREAKER_NAME = "kakaoLocal";
+
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final Duration staleServeAfter;
+    private final MeterRegistry meterRegistry;
+
+    public KakaoCallGuard(MeterRegistry meterRegistry,
+                          @Value("${kakao.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+                          @Value("${kakao.circuit-breaker.slow-call-threshold:1s}") Duration slowCallThreshold,
+                          @Value("${kakao.circuit-breaker.open-duration:30s}") Duration openDuration,
+                          @Value("${kakao.stale.serve-after:800ms}") Duration staleServeAfter,
+                          @Value("${kakao.stale.refresh-threads:${kakao.http.max-per-route:20}}") int refreshThreads) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(20)
+                .minimumNumberOfCalls(10)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slowCallRateThreshold(80)
+                .waitDurationInOpenState(openDuration)
+                .permittedNumberOfCallsInHalfOpenState(3)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        this.circuitBreaker = registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.circuitBreaker.getEventPublisher()
+                .onStateTransition(event -> log.warn("카카오 API 서킷 상태 변경: {}", event.getStateTransition()));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshThreads),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "kakao-refresh-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.staleServeAfter = staleServeAfter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 서킷 브레이커를 거쳐 호출 (열려 있으면 CallNotPermittedException)
+     */
+    public <T> T execute(Supplier<T> call) {
+        return circuitBreaker.executeSupplier(call);
+    }
+
+    /**
+     * 논블로킹 호출에 서킷 브레이커 적용
+     */
+    public <T> Mono<T> execute(Mono<T> call) {
+        return call.transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    /**
+     * 호출이 실패하거나(서킷 열림 포함) serve-after 안에 끝나지 않으면 staleLookup 결과로 대체
+     * (서킷 브레이커는 call 내부의 실제 HTTP 호출에 execute 로 적용되어 있어야 한다)
+     *
+     * - 대체 응답이 없으면 기다리는 것 외에 할 수 있는 게 없으므로 요청 스레드에서 바로 호출하고, 실패는 그대로 던진다.
+     * - 대체 응답이 있을 때만 재검증 풀에서 호출해 serve-after 까지 기다리고, 늦으면 대체 응답을 먼저 반환한 뒤
+     *   호출은 백그라운드에서 끝까지 수행한다. 풀 크기는 HTTP 커넥션 풀의 라우트당 최대 연결 수와 같게 둔다.
+     * call 은 성공 시 캐시 갱신까지 포함해야 백그라운드 재검증 결과가 다음 요청에 반영된다.
+     */
+    public <T> T executeWithStaleFallback(Supplier<T> call, Supplier<Optional<T>> staleLookup) {
+        Optional<T> stale = staleLookup.get();
+        if (stale.isEmpty()) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                recordFallback("miss");
+                throw e;
+            }
+        }
+
+        CompletableFuture<T> refresh;
+        try {
+            refresh = CompletableFuture.supplyAsync(call, refreshExecutor);
+        } catch (RejectedExecutionException e) {
+            // 재검증 스레드가 포화 상태면 마지막 정상 응답으로 응답 (재검증은 다음 요청에서)
+            recordFallback("saturated");
+            return stale.get();
+        }
+
+        try {
+            return refresh.get(staleServeAfter.toMillis(), TimeUnit.MILLISECONDS);
+
+        } catch (TimeoutException e) {
+            recordFallback("slow");
+            return stale.get();
+
+        } catch (ExecutionException e) {
+            recordFallback(e.getCause() instanceof CallNotPermittedException ? "circuit_open" : "error");
+            return stale.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return stale.get();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void recordFallback(String outcome) {
+        meterRegistry.counter("kakao.api.fallback", "outcome", outcome).increment();
+    }
+}
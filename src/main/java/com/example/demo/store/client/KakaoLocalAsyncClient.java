@@ -0,0 +1,70 @@
+package com.example.demo.store.client;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.example.demo.config.ApiKeyConfig;
+import com.example.demo.store.dto.KakaoPlacePage;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 카카오 로컬 카테고리 검색 논블로킹 클라이언트
+ *
+ * 여러 페이지 / 카테고리를 동시에 요청할 때 사용 (요청 스레드를 점유하지 않음)
+ * 응답 본문은 byte[] 로 받아 KakaoPlaceParser 로 바로 파싱한다.
+ */
+@Component
+public class KakaoLocalAsyncClient {
+
+    private static final String CATEGORY_SEARCH_PATH = "/v2/local/search/category.json";
+
+    private final WebClient webClient;
+    private final KakaoPlaceParser kakaoPlaceParser;
+    private final Duration responseTimeout;
+
+    public KakaoLocalAsyncClient(WebClient.Builder webClientBuilder,
+                                 ApiKeyConfig apiKeyConfig,
+                                 KakaoPlaceParser kakaoPlaceParser,
+                                 @Value("${kakao.http.response-timeout:3s}") Duration responseTimeout) {
+        this.webClient = webClientBuilder
+                .baseUrl("https://dapi.kakao.com")
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "KakaoAK " + apiKeyConfig.getKakaoApiKey())
+                .build();
+        this.kakaoPlaceParser = kakaoPlaceParser;
+        this.responseTimeout = responseTimeout;
+    }
+
+    public Mono<KakaoPlacePage> fetchCategoryPage(String categoryCode, double latitude, double longitude,
+                                                  int radius, int page, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path(CATEGORY_SEARCH_PATH)
+                        .queryParam("category_group_code", categoryCode)
+                        .queryParam("x", longitude)
+                        .queryParam("y", latitude)
+                        .queryParam("radius", radius)
+                        .queryParam("sort", "distance")
+                        .queryParam("page", page)
+                        .queryParam("size", size)
+                        .build())
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .map(this::parse)
+                .defaultIfEmpty(KakaoPlacePage.empty())
+                .timeout(responseTimeout);
+    }
+
+    private KakaoPlacePage parse(byte[] body) {
+        try {
+            return kakaoPlaceParser.parse(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("카카오 API 응답 파싱 실패", e);
+        }
+    }
+}
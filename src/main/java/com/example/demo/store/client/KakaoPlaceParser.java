@@ -0,0 +1,112 @@
+package com.example.demo.store.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.store.dto.KakaoPlace;
+import com.example.demo.store.dto.KakaoPlacePage;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 카카오 로컬 API 응답 스트리밍 파서
+ *
+ * 응답 전체를 Map 트리로 만들지 않고 토큰 단위로 읽으면서
+ * documents 의 id / place_name / category_group_code / x / y / distance 와
+ * meta 의 is_end / pageable_count 만 꺼내고 나머지 필드는 건너뛴다.
+ */
+@Component
+public class KakaoPlaceParser {
+
+    private final JsonFactory jsonFactory;
+
+    public KakaoPlaceParser(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public KakaoPlacePage parse(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    public KakaoPlacePage parse(byte[] body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    private KakaoPlacePage parse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return KakaoPlacePage.empty();
+        }
+
+        List<KakaoPlace> places = new ArrayList<>(15);
+        boolean isEnd = true;
+        int pageableCount = 0;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            if ("documents".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    places.add(readPlace(parser));
+                }
+            } else if ("meta".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String metaField = parser.currentName();
+                    JsonToken metaValue = parser.nextToken();
+                    if ("is_end".equals(metaField) && metaValue.isBoolean()) {
+                        isEnd = parser.getBooleanValue();
+                    } else if ("pageable_count".equals(metaField) && metaValue.isNumeric()) {
+                        pageableCount = parser.getIntValue();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        return new KakaoPlacePage(places, isEnd, pageableCount);
+    }
+
+    private KakaoPlace readPlace(JsonParser parser) throws IOException {
+        String id = null;
+        String placeName = null;
+        String categoryGroupCode = null;
+        double x = 0;
+        double y = 0;
+        int distance = -1;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "id" -> id = parser.getValueAsString();
+                case "place_name" -> placeName = parser.getValueAsString();
+                case "category_group_code" -> categoryGroupCode = parser.getValueAsString();
+                case "x" -> x = parser.getValueAsDouble(0);
+                case "y" -> y = parser.getValueAsDouble(0);
+                // 좌표 없이 검색하면 빈 문자열
+                case "distance" -> distance = parser.getValueAsInt(-1);
+                default -> {
+                    if (value.isStructStart()) {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+
+        return new KakaoPlace(id, placeName, categoryGroupCode, x, y, distance);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.store.client;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.store.dto.KakaoPlacePage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동일한 카카오 API 요청 단일 실행 (single-flight)
+ *
+ * 같은 URI(또는 같은 키) 요청이 진행 중이면 새로 호출하지 않고 진행 중인 호출의 결과를 함께 기다린다.
+ * 먼저 들어온 요청(리더)이 호출을 직접 수행하고, 나머지는 최대 wait-timeout 만큼만 대기한다.
+ * 결과는 보관하지 않으므로 호출이 끝난 뒤 들어온 요청은 다시 호출한다 (캐시는 PlaceTileCache 담당).
+ */
+@Component
+@Slf4j
+public class KakaoRequestCoalescer {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration waitTimeout;
+    private final Counter issuedCounter;
+    private final Counter coalescedCounter;
+    private final Counter timeoutCounter;
+
+    public KakaoRequestCoalescer(MeterRegistry meterRegistry,
+                                 @Value("${kakao.coalescing.wait-timeout:3s}") Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+        this.issuedCounter = requestCounter(meterRegistry, "issued");
+        this.coalescedCounter = requestCounter(meterRegistry, "coalesced");
+        this.timeoutCounter = requestCounter(meterRegistry, "wait_timeout");
+    }
+
+    public KakaoPlacePage execute(URI uri, Supplier<KakaoPlacePage> call) {
+        return execute(uri.toString(), call);
+    }
+
+    /**
+     * URI 가 아닌 논리 키 단위 단일 실행 (예: 같은 타일의 캐시 미스는 요청 좌표가 달라도 한 번만 조회)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            coalescedCounter.increment();
+            return (T) await(key, existing);
+        }
+
+        issuedCounter.increment();
+        try {
+            T result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("kakao.api.requests")
+                .description("카카오 API 요청 수 (issued: 실제 호출, coalesced: 진행 중 호출 공유, wait_timeout: 대기 시간 초과)")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private Object await(String key, CompletableFuture<Object> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            throw new IllegalStateException("카카오 API 응답 대기 시간 초과: " + key, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("카카오 API 응답 대기 중 인터럽트: " + key, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("카카오 API 호출 실패: " + key, cause);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.store.dto;
+
+/**
+ * 카카오 로컬 API 장소 (매칭에 필요한 필드만 보관)
+ */
+public record KakaoPlace(
+    String id,                  // 카카오 장소 ID
+    String placeName,           // 장소명
+    String categoryGroupCode,   // 카테고리 그룹 코드 (MT1, FD6, CE7 ...)
+    double x,                   // 경도
+    double y,                   // 위도
+    int distance                // 중심 좌표까지 거리 (m, 좌표 없이 검색하면 -1)
+) {}
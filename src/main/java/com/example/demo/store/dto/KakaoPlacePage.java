@@ -0,0 +1,17 @@
+package com.example.demo.store.dto;
+
+import java.util.List;
+
+/**
+ * 카카오 로컬 API 한 페이지 응답
+ */
+public record KakaoPlacePage(
+    List<KakaoPlace> places,
+    boolean isEnd,          // 마지막 페이지 여부 (meta.is_end)
+    int pageableCount       // 조회 가능한 전체 문서 수 (meta.pageable_count)
+) {
+
+    public static KakaoPlacePage empty() {
+        return new KakaoPlacePage(List.of(), true, 0);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.store.dto;
+
+import java.util.List;
+
+import com.example.demo.store.util.TileCoverage;
+
+/**
+ * 타일 캐시 항목 (카카오 조회 결과 + 그 조회가 덮는 범위)
+ */
+public record PlaceTile(
+    TileCoverage coverage,      // 조회 좌표 + 유효 반경
+    List<KakaoPlace> places     // 조회 좌표 기준 거리순 장소
+) {}
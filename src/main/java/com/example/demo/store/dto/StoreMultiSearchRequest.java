@@ -0,0 +1,10 @@
+package com.example.demo.store.dto;
+
+import java.util.List;
+
+public record StoreMultiSearchRequest(
+    Double lat,         // 위도
+    Double lng,         // 경도
+    List<String> cats,  // 카테고리 코드 목록
+    Integer pages       // 카테고리별 조회 페이지 수 (기본 3)
+) {}
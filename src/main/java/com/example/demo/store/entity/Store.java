@@ -1,5 +1,7 @@
 package com.example.demo.store.entity;
 
+import java.time.LocalDateTime;
+
 import com.example.demo.benefit.application.dto.ChannelType;
 
 import jakarta.persistence.Column;
@@ -9,14 +11,19 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 카카오 검색으로 확인된 매장 (장소 ID 기준 upsert)
+ */
 @Entity
-@Table(name = "stores")
+@Table(name = "stores",
+        indexes = @Index(name = "idx_stores_place_id", columnList = "place_id", unique = true))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Store {
@@ -24,6 +31,19 @@ public class Store {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+
+    @Column(name = "place_id", nullable = false, length = 32)
+    private String placeId;         // 카카오 장소 ID
+
+    @Column(nullable = false)
+    private String placeName;
+
+    @Column(length = 8)
+    private String categoryCode;    // 카테고리 그룹 코드 (MT1, FD6, CE7 ...)
+
+    private Double latitude;
+
+    private Double longitude;
     
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -31,13 +51,33 @@ public class Store {
 
     @Column(nullable = false)
     private boolean isActive = true;
+
+    private LocalDateTime lastSeenAt;   // 카카오 응답에서 마지막으로 확인된 시각
     
     
     @Builder
-    public Store(Long id, ChannelType channelType, boolean isActive) {
+    public Store(Long id, String placeId, String placeName, String categoryCode, Double latitude, Double longitude,
+                 ChannelType channelType, boolean isActive, LocalDateTime lastSeenAt) {
         this.id = id;
+        this.placeId = placeId;
+        this.placeName = placeName;
+        this.categoryCode = categoryCode;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.channelType = channelType;
         this.isActive = isActive;
+        this.lastSeenAt = lastSeenAt;
     }
-}
 
+    /**
+     * 카카오 응답 기준으로 매장 정보 갱신
+     */
+    public void refresh(String placeName, String categoryCode, Double latitude, Double longitude, LocalDateTime seenAt) {
+        this.placeName = placeName;
+        this.categoryCode = categoryCode;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.isActive = true;
+        this.lastSeenAt = seenAt;
+    }
+}
@@ -2,10 +2,18 @@ package com.example.demo.store.repository;
 
 
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import com.example.demo.benefit.application.dto.ChannelType;
 import com.example.demo.store.entity.Store;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
-}
\ No newline at end of file
+
+    List<Store> findByPlaceIdIn(Collection<String> placeIds);
+
+    List<Store> findByChannelTypeAndIsActiveTrue(ChannelType channelType);
+}
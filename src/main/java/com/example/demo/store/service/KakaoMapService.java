@@ -2,102 +2,288 @@ package com.example.demo.store.service;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
-import org.springframework.http.HttpEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.example.demo.benefit.catalog.CategoryMask;
+import com.example.demo.cache.PlaceTileCache;
 import com.example.demo.config.ApiKeyConfig;
+import com.example.demo.store.client.KakaoCallGuard;
+import com.example.demo.store.client.KakaoLocalAsyncClient;
+import com.example.demo.store.client.KakaoPlaceParser;
+import com.example.demo.store.client.KakaoRequestCoalescer;
+import com.example.demo.store.dto.KakaoPlace;
+import com.example.demo.store.dto.KakaoPlacePage;
+import com.example.demo.store.dto.PlaceTile;
+import com.example.demo.store.util.GeoDistance;
+import com.example.demo.store.util.GeoHash;
+import com.example.demo.store.util.TileCoverage;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class KakaoMapService {
 
-    private final RestTemplate restTemplate;
+    private final RestTemplate kakaoRestTemplate;
     private final ApiKeyConfig apiKeyConfig;
+    private final KakaoPlaceParser kakaoPlaceParser;
+    private final PlaceTileCache placeTileCache;
+    private final KakaoRequestCoalescer kakaoRequestCoalescer;
+    private final KakaoLocalAsyncClient kakaoLocalAsyncClient;
+    private final KakaoCallGuard kakaoCallGuard;
+    private final StoreCatalogService storeCatalogService;
 
     private static final String KAKAO_API_BASE_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
+    private static final String KAKAO_CATEGORY_API_URL = "https://dapi.kakao.com/v2/local/search/category.json";
+    private static final int SEARCH_RADIUS_METERS = 2000;
+    private static final int PAGE_SIZE = 15;
+    public static final int MAX_ASYNC_PAGES = 5; // 동시 검색 시 카테고리별 최대 페이지 (요청 수 = 카테고리 수 x 페이지)
 
-    public List<Map<String, Object>> searchPlaces(String categoryCode, Double latitude, Double longitude) {
+    @Value("${kakao.tile-cache.precision:7}")
+    private int tilePrecision;
+
+    @Value("${kakao.async.max-concurrency:10}")
+    private int asyncMaxConcurrency;
+
+    /**
+     * 위치 + 카테고리 기반 장소 검색 (로컬 매장 카탈로그 -> geohash 타일 캐시 -> 카카오 API 순)
+     *
+     * 카카오 조회는 요청 좌표 기준 (검색 반경 + 여유 반경) 으로 하고, 결과를 그 조회가 빠짐없이 덮는 범위와 함께
+     * (카테고리, 타일) 단위로 캐시한다. 이후 자기 타일 / 주변 타일의 캐시(또는 warm 타일의 로컬 카탈로그)는
+     * 요청 좌표의 "반경 안 거리순 상위 PAGE_SIZE 개"를 정확히 답할 수 있을 때만 사용하고,
+     * 실제 요청 좌표 기준 거리로 다시 필터링 / 정렬한다.
+     */
+    public List<KakaoPlace> searchPlaces(String categoryCode, Double latitude, Double longitude) {
         try {
-            URI uri = UriComponentsBuilder.fromUriString(KAKAO_API_BASE_URL)
-                    .queryParam("category_group_code", categoryCode)
-                    .queryParam("x", longitude)
-                    .queryParam("y", latitude)
-                    .queryParam("radius", 2000)
-                    .queryParam("page", 1)
-                    .queryParam("size", 15)
-                    .build()
-                    .encode()
-                    .toUri();
+            if (latitude == null || longitude == null) {
+                return fetchCategoryPlaces(categoryCode, latitude, longitude, SEARCH_RADIUS_METERS);
+            }
+            return searchPlacesWithTileCache(categoryCode, latitude, longitude);
+
+        } catch (Exception e) {
+            log.error("카카오 API 호출 실패", e);
+            return new ArrayList<>();
+        }
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + apiKeyConfig.getKakaoApiKey());
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+    private List<KakaoPlace> searchPlacesWithTileCache(String categoryCode, double latitude, double longitude) {
 
-            log.info("카카오 API 호출 - URL: {}", uri);
+        String tile = GeoHash.encode(latitude, longitude, tilePrecision);
+        double coverageMargin = 2 * GeoHash.diagonalMeters(tile);
+        List<String> coveringTiles = coveringTiles(tile, latitude, longitude, coverageMargin);
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.exchange(
-                    uri, HttpMethod.GET, entity, Map.class
-            ).getBody();
+        List<KakaoPlace> candidates = findLocalPlaces(categoryCode, coveringTiles, latitude, longitude);
+        String source = "LOCAL";
 
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> documents = (List<Map<String, Object>>) response.get("documents");
+        if (candidates == null) {
+            candidates = findCachedPlaces(categoryCode, coveringTiles, latitude, longitude);
+            source = "HIT";
+        }
 
-            log.info("카카오 API 응답 - 총 {}개 장소 검색됨", documents != null ? documents.size() : 0);
+        if (candidates == null) {
+            // 3. 캐시 미스면 요청 좌표 기준으로 조회 후 조회 범위와 함께 저장 (호출 실패 시 예외로 빠져 빈 결과는 캐시되지 않음)
+            //    서킷이 열려 있거나 응답이 늦으면 마지막 정상 응답을 먼저 반환하고 백그라운드에서 갱신
+            //    같은 (카테고리, 타일)의 동시 미스는 요청 좌표가 달라도 먼저 들어온 요청의 조회 결과를 함께 쓴다
+            int radius = SEARCH_RADIUS_METERS + (int) Math.ceil(coverageMargin);
+            candidates = kakaoRequestCoalescer.execute(
+                    "placeTileMiss:" + categoryCode + ":" + tile,
+                    () -> kakaoCallGuard.executeWithStaleFallback(
+                            () -> {
+                                List<KakaoPlace> fetched = fetchCategoryPlaces(categoryCode, latitude, longitude, radius);
+                                TileCoverage coverage = TileCoverage.of(latitude, longitude, radius, fetched, PAGE_SIZE);
+                                placeTileCache.put(categoryCode, tile, new PlaceTile(coverage, fetched));
+                                storeCatalogService.saveAsync(categoryCode, tile, coverage, fetched);
+                                return fetched;
+                            },
+                            () -> placeTileCache.getStale(categoryCode, tile).map(PlaceTile::places)));
+            source = "MISS";
+        }
 
-            return documents != null ? documents : new ArrayList<>();
+        // 4. 요청 좌표 기준 거리 재계산 후 반경 필터링 / 거리순 정렬 (장소 ID 기준 중복 제거)
+        Map<String, KakaoPlace> nearbyById = new LinkedHashMap<>();
+        for (KakaoPlace place : candidates) {
+            int distance = (int) Math.round(GeoDistance.meters(latitude, longitude, place.y(), place.x()));
+            if (distance <= SEARCH_RADIUS_METERS) {
+                nearbyById.putIfAbsent(place.id(), new KakaoPlace(place.id(), place.placeName(),
+                        place.categoryGroupCode(), place.x(), place.y(), distance));
+            }
+        }
+        List<KakaoPlace> nearby = new ArrayList<>(nearbyById.values());
+        nearby.sort(Comparator.comparingInt(KakaoPlace::distance));
 
-        } catch (Exception e) {
-            log.error("카카오 API 호출 실패", e);
-            return new ArrayList<>();
+        log.info("장소 검색 - 타일: {}, 출처: {}, 결과: {}개", tile, source, Math.min(nearby.size(), PAGE_SIZE));
+        return nearby.size() > PAGE_SIZE ? new ArrayList<>(nearby.subList(0, PAGE_SIZE)) : nearby;
+    }
+
+    /**
+     * 1. 최근 카카오로 조회한 타일 중 하나가 요청 좌표를 덮으면 로컬 매장 카탈로그에서 응답 (덮지 않으면 null)
+     */
+    private List<KakaoPlace> findLocalPlaces(String categoryCode, List<String> coveringTiles,
+                                             double latitude, double longitude) {
+        List<TileCoverage> coverages = new ArrayList<>();
+        for (String candidate : coveringTiles) {
+            storeCatalogService.findWarmCoverage(categoryCode, candidate).ifPresent(coverages::add);
+        }
+        if (coverages.isEmpty()) {
+            return null;
+        }
+
+        List<KakaoPlace> places = storeCatalogService.findNearby(categoryCode, latitude, longitude, SEARCH_RADIUS_METERS);
+        for (TileCoverage coverage : coverages) {
+            if (coverage.answers(latitude, longitude, SEARCH_RADIUS_METERS, places, PAGE_SIZE)) {
+                return places;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 2. 자기 타일 / 주변 타일 캐시 중 요청 좌표를 덮는 결과 (없으면 null)
+     */
+    private List<KakaoPlace> findCachedPlaces(String categoryCode, List<String> coveringTiles,
+                                              double latitude, double longitude) {
+        for (String candidate : coveringTiles) {
+            Optional<PlaceTile> cached = placeTileCache.get(categoryCode, candidate);
+            if (cached.isPresent() && cached.get().coverage()
+                    .answers(latitude, longitude, SEARCH_RADIUS_METERS, cached.get().places(), PAGE_SIZE)) {
+                return cached.get().places();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 여러 카테고리 x 여러 페이지 동시 검색 (논블로킹)
+     *
+     * 카테고리별 1..pages 페이지를 한 번에 요청하고, 응답이 도착하는 순서대로 장소 ID 기준 중복을 제거해 흘려보낸다.
+     * 모든 요청이 동시에 나가므로 전체 소요 시간은 가장 느린 단일 호출 수준으로 유지된다.
+     * 실패한 페이지는 건너뛰고 나머지 결과만 반환한다.
+     * 카카오 카테고리 코드가 아닌 값은 제외하고, 페이지 수는 MAX_ASYNC_PAGES 로 제한한다.
+     */
+    public Flux<KakaoPlace> searchPlacesAsync(List<String> categoryCodes, double latitude, double longitude, int pages) {
+        int pageCount = Math.max(1, Math.min(pages, MAX_ASYNC_PAGES));
+        List<PageRequest> requests = new ArrayList<>();
+        for (String categoryCode : new LinkedHashSet<>(categoryCodes)) {
+            if (!CategoryMask.isKnown(categoryCode)) {
+                continue;
+            }
+            for (int page = 1; page <= pageCount; page++) {
+                requests.add(new PageRequest(categoryCode, page));
+            }
+        }
+
+        log.info("카카오 API 동시 호출 - 카테고리: {}, 페이지: {}, 요청 수: {}", categoryCodes, pageCount, requests.size());
+
+        return Flux.fromIterable(requests)
+                .flatMap(request -> kakaoCallGuard.execute(kakaoLocalAsyncClient
+                                .fetchCategoryPage(request.categoryCode(), latitude, longitude,
+                                        SEARCH_RADIUS_METERS, request.page(), PAGE_SIZE))
+                        .onErrorResume(e -> {
+                            log.warn("카카오 API 호출 실패 - 카테고리: {}, 페이지: {}", request.categoryCode(), request.page(), e);
+                            return Mono.empty();
+                        }), asyncMaxConcurrency)
+                .flatMapIterable(KakaoPlacePage::places)
+                .distinct(KakaoPlace::id);
+    }
+
+    /**
+     * 캐시 조회 후보 타일: 자기 타일 + 중심이 요청 좌표에서 여유 반경 안에 있는 주변 타일
+     * (후보일 뿐이며 실제로 요청을 덮는지는 저장된 TileCoverage 로 판단)
+     */
+    static List<String> coveringTiles(String tile, double latitude, double longitude, double coverageMargin) {
+        List<String> tiles = new ArrayList<>(9);
+        tiles.add(tile);
+        for (String neighbour : GeoHash.neighbours(tile)) {
+            double[] center = GeoHash.center(neighbour);
+            if (GeoDistance.meters(latitude, longitude, center[0], center[1]) <= coverageMargin) {
+                tiles.add(neighbour);
+            }
         }
+        return tiles;
+    }
+
+    private List<KakaoPlace> fetchCategoryPlaces(String categoryCode, Double latitude, Double longitude, int radius) {
+        URI uri = UriComponentsBuilder.fromUriString(KAKAO_CATEGORY_API_URL)
+                .queryParam("category_group_code", categoryCode)
+                .queryParam("x", longitude)
+                .queryParam("y", latitude)
+                .queryParam("radius", radius)
+                .queryParam("sort", "distance")
+                .queryParam("page", 1)
+                .queryParam("size", PAGE_SIZE)
+                .build()
+                .encode()
+                .toUri();
+
+        log.info("카카오 API 호출 - URL: {}", uri);
+
+        List<KakaoPlace> places = fetchPage(uri).places();
+
+        log.info("카카오 API 응답 - 총 {}개 장소 검색됨", places.size());
+
+        return places;
     }
 
     /**
      * 카테고리별 온라인 매장 검색 (위도/경도 없이)
      */
-    public List<Map<String, Object>> searchPlacesByCategory(String category) {
+    public List<KakaoPlace> searchPlacesByCategory(String category) {
         try {
             URI uri = UriComponentsBuilder.fromUriString(KAKAO_API_BASE_URL)
                     .queryParam("query", category)
                     .queryParam("page", 1)
-                    .queryParam("size", 15)
+                    .queryParam("size", PAGE_SIZE)
                     .build()
                     .encode()
                     .toUri();
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "KakaoAK " + apiKeyConfig.getKakaoApiKey());
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
             log.info("카카오 API 호출 (온라인 매장) - URL: {}", uri);
 
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.exchange(
-                    uri, HttpMethod.GET, entity, Map.class
-            ).getBody();
-
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> documents = (List<Map<String, Object>>) response.get("documents");
+            List<KakaoPlace> places = fetchPage(uri).places();
 
-            log.info("카카오 API 응답 (온라인 매장) - 총 {}개 장소 검색됨", documents != null ? documents.size() : 0);
+            log.info("카카오 API 응답 (온라인 매장) - 총 {}개 장소 검색됨", places.size());
 
-            return documents != null ? documents : new ArrayList<>();
+            return places;
 
         } catch (Exception e) {
             log.error("카카오 API 호출 실패 (온라인 매장)", e);
             return new ArrayList<>();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 응답 본문을 문자열/Map 으로 만들지 않고 스트림에서 바로 장소 목록으로 파싱
+     * 동일 URI 로 동시에 들어온 요청은 하나의 호출 결과를 공유
+     */
+    private KakaoPlacePage fetchPage(URI uri) {
+        return kakaoRequestCoalescer.execute(uri, () -> requestPage(uri));
+    }
+
+    private KakaoPlacePage requestPage(URI uri) {
+        KakaoPlacePage page = kakaoCallGuard.execute(() -> kakaoRestTemplate.execute(
+                uri,
+                HttpMethod.GET,
+                request -> request.getHeaders().set(HttpHeaders.AUTHORIZATION, "KakaoAK " + apiKeyConfig.getKakaoApiKey()),
+                response -> kakaoPlaceParser.parse(response.getBody())
+        ));
+        return page != null ? page : KakaoPlacePage.empty();
+    }
+
+    private record PageRequest(String categoryCode, int page) {}
+}
@@ -1,6 +1,7 @@
 package com.example.demo.store.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -8,21 +9,18 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.demo.benefit.entity.Benefit;
+import com.example.demo.benefit.catalog.BenefitCatalog;
+import com.example.demo.benefit.catalog.BenefitCatalogSnapshot;
+import com.example.demo.benefit.catalog.CatalogBenefit;
+import com.example.demo.benefit.util.BenefitConverter;
+import com.example.demo.benefit.util.LongHashSet;
 import com.example.demo.benefit.application.dto.ChannelType;
-import com.example.demo.benefit.repository.BenefitRepository;
 import com.example.demo.card.entity.Card;
 import com.example.demo.card.repository.CardRepository;
+import com.example.demo.store.dto.KakaoPlace;
 import com.example.demo.store.dto.OnlineStoreInfoDTO;
-import com.example.demo.benefit.application.dto.CashbackBenefitDTO;
-import com.example.demo.benefit.application.dto.DiscountBenefitDTO;
-import com.example.demo.benefit.application.dto.PointBenefitDTO;
 import com.example.demo.benefit.dto.AvailableCardResponse;
-import com.example.demo.benefit.dto.BenefitDetailDTO;
 import com.example.demo.benefit.dto.MatchingCardsResponse;
-import com.example.demo.benefit.entity.CashbackBenefit;
-import com.example.demo.benefit.entity.DiscountBenefit;
-import com.example.demo.benefit.entity.PointBenefit;
 import com.example.demo.store.dto.OnlineStoreSearchResponse;
 import com.example.demo.store.dto.StoreInfoDTO;
 import com.example.demo.user.entity.UserCard;
@@ -39,6 +37,9 @@ public class OnlineStoreService {
     private final UserCardRepository userCardRepository;
     private final KakaoMapService kakaoMapService;
     private final StoreCardMatchingService storeCardMatchingService;
+    private final BenefitCatalog benefitCatalog;
+    private final CardRepository cardRepository;
+    private final BenefitConverter benefitConverter;
 
     /**
      * 온라인 매장 조회
@@ -57,7 +58,7 @@ public class OnlineStoreService {
         }
         
         // 2. 카카오 API로 온라인 매장 검색
-        List<Map<String, Object>> kakaoStores = searchOnlineStoresFromKakao(category);
+        List<KakaoPlace> kakaoStores = searchOnlineStoresFromKakao(category);
         
         // 3. 각 매장에 대해 온라인 카드 혜택 매칭
         List<StoreInfoDTO> storesWithCards = storeCardMatchingService.matchStoresWithCards(kakaoStores, userCards, ChannelType.ONLINE);
@@ -75,7 +76,7 @@ public class OnlineStoreService {
     /**
      * 카카오 API로 온라인 매장 검색
      */
-    private List<Map<String, Object>> searchOnlineStoresFromKakao(String category) {
+    private List<KakaoPlace> searchOnlineStoresFromKakao(String category) {
         // 요청으로 온 카테고리를 그대로 카카오 API에 전달
         return kakaoMapService.searchPlacesByCategory(category);
     }
@@ -96,106 +97,72 @@ public class OnlineStoreService {
 
     // 온라인 혜택 있는 카드 조회 
     private List<Card> getOnlineCards(Long userId) {
+        BenefitCatalogSnapshot catalog = benefitCatalog.current();
         List<UserCard> userCards = userCardRepository.findByUserIdAndIsActiveTrue(userId);
         return userCards.stream()
                 .map(UserCard::getCard)
-                .filter(this::hasOnlineBenefits)
+                .filter(card -> hasOnlineBenefits(catalog, card))
                 .collect(Collectors.toList());
     }
 
-    // 카드가 온라인 혜택 가지는지 확인 
-    private boolean hasOnlineBenefits(Card card) {
-        return card.getBenefits().stream()
-                .anyMatch(benefit -> 
-                    benefit.getDiscountBenefits().stream().anyMatch(db -> 
-                        db.getChannel() == ChannelType.ONLINE || db.getChannel() == ChannelType.BOTH) ||
-                    benefit.getPointBenefits().stream().anyMatch(pb -> 
-                        pb.getChannel() == ChannelType.ONLINE || pb.getChannel() == ChannelType.BOTH) ||
-                    benefit.getCashbackBenefits().stream().anyMatch(cb -> 
-                        cb.getChannel() == ChannelType.ONLINE || cb.getChannel() == ChannelType.BOTH)
-                );
+    // 카드가 온라인 혜택 가지는지 확인 (카탈로그 스냅샷의 채널 기능 사용)
+    private boolean hasOnlineBenefits(BenefitCatalogSnapshot catalog, Card card) {
+        return catalog.cardSupportsChannel(card.getId(), ChannelType.ONLINE);
     }
 
+    /**
+     * 매장(적용 대상)에 혜택이 있는 보유 온라인 카드 조회
+     * 적용 대상 -> 혜택 -> 카드 역색인으로 관련 (카드, 혜택) 쌍만 찾고, 해당 매장에 적용되는 혜택만 응답에 담는다.
+     */
+    @Transactional(readOnly = true)
     public MatchingCardsResponse getStoreCards(String storeId, Long userId) {
-        List<Card> userCards = getOnlineCards(userId);
+        BenefitCatalogSnapshot catalog = benefitCatalog.current();
+        long[] benefitIds = catalog.findBenefitIdsByTarget(storeId);
 
-        if (userCards.isEmpty()) {
+        if (benefitIds.length == 0) {
             return new MatchingCardsResponse(new ArrayList<>());
         }
 
-        // 해당 매장에 적용되는 카드들만 필터링
-        List<AvailableCardResponse> matchingCards = userCards.stream()
-                .filter(card -> hasBenefitForStore(card, storeId))
-                .map(card -> AvailableCardResponse.builder()
-                        .cardId(card.getId())
-                        .cardName(card.getCardName())
-                        .cardBank(card.getCardBank())
-                        .imgUrl(card.getImgUrl())
-                        .type(card.getType())
-                        .benefits(convertBenefitsToDTO(card.getBenefits()))
-                        .build())
-                .collect(Collectors.toList());
-        
-        return new MatchingCardsResponse(matchingCards);
-    }
-
-    /**
-     * 카드가 해당 매장에 혜택을 제공하는지 확인
-     */
-    private boolean hasBenefitForStore(Card card, String storeId) {
-        return card.getBenefits().stream()
-                .anyMatch(benefit -> benefit.getApplicableTargets().contains(storeId));
-    }
-
-    /**
-     * Benefit 리스트를 BenefitDetailDTO로 변환
-     */
-    private BenefitDetailDTO convertBenefitsToDTO(List<Benefit> benefits) {
-        List<DiscountBenefitDTO> discounts = new ArrayList<>();
-        List<PointBenefitDTO> points = new ArrayList<>();
-        List<CashbackBenefitDTO> cashbacks = new ArrayList<>();
-        List<String> applicableCategory = new ArrayList<>();
-        List<String> applicableTargets = new ArrayList<>();
-        
-        for (Benefit benefit : benefits) {
-            // 할인 혜택
-            for (DiscountBenefit discount : benefit.getDiscountBenefits()) {
-                discounts.add(DiscountBenefitDTO.builder()
-                        .rate(discount.getRate())
-                        .amount(discount.getAmount())
-                        .minimumAmount(discount.getMinimumAmount())
-                        .benefitLimit(discount.getBenefitLimit())
-                        .channel(discount.getChannel())
-                        .build());
-            }
-            
-            // 포인트 혜택
-            for (PointBenefit point : benefit.getPointBenefits()) {
-                points.add(PointBenefitDTO.builder()
-                        .rate(point.getRate())
-                        .minimumAmount(point.getMinimumAmount())
-                        .benefitLimit(point.getBenefitLimit())
-                        .channel(point.getChannel())
-                        .build());
+        // 1. 보유 카드 중 온라인 혜택이 있는 카드별로 매장 적용 혜택 그룹핑
+        LongHashSet ownedCardIds = LongHashSet.of(userCardRepository.findCardIdsByUserId(userId));
+        Map<Long, List<CatalogBenefit>> benefitsByCard = new LinkedHashMap<>();
+        for (long benefitId : benefitIds) {
+            CatalogBenefit benefit = catalog.getBenefit(benefitId);
+            if (benefit == null) {
+                continue;
             }
-            
-            // 캐시백 혜택
-            for (CashbackBenefit cashback : benefit.getCashbackBenefits()) {
-                cashbacks.add(CashbackBenefitDTO.builder()
-                        .rate(cashback.getRate())
-                        .amount(cashback.getAmount())
-                        .minimumAmount(cashback.getMinimumAmount())
-                        .benefitLimit(cashback.getBenefitLimit())
-                        .channel(cashback.getChannel())
-                        .build());
+            for (long cardId : catalog.findCardIds(benefitId)) {
+                if (ownedCardIds.contains(cardId) && catalog.cardSupportsChannel(cardId, ChannelType.ONLINE)) {
+                    benefitsByCard.computeIfAbsent(cardId, key -> new ArrayList<>()).add(benefit);
+                }
             }
-            
-            // 적용 카테고리 및 대상
-            applicableCategory.addAll(benefit.getApplicableCategory());
-            applicableTargets.addAll(benefit.getApplicableTargets());
         }
-        
-        return new BenefitDetailDTO(discounts, points, cashbacks, applicableCategory, applicableTargets);
-    }
 
+        if (benefitsByCard.isEmpty()) {
+            return new MatchingCardsResponse(new ArrayList<>());
+        }
+
+        // 2. 매칭된 카드만 조회해 응답 구성
+        Map<Long, Card> cardsById = cardRepository.findAllById(benefitsByCard.keySet()).stream()
+                .collect(Collectors.toMap(Card::getId, card -> card));
+
+        List<AvailableCardResponse> matchingCards = new ArrayList<>(benefitsByCard.size());
+        benefitsByCard.forEach((cardId, cardBenefits) -> {
+            Card card = cardsById.get(cardId);
+            if (card == null) {
+                log.warn("카탈로그에 있는 카드를 찾을 수 없습니다: {}", cardId);
+                return;
+            }
+            matchingCards.add(AvailableCardResponse.builder()
+                    .cardId(card.getId())
+                    .cardName(card.getCardName())
+                    .cardBank(card.getCardBank())
+                    .imgUrl(card.getImgUrl())
+                    .type(card.getType())
+                    .benefits(benefitConverter.convertCatalogBenefitsToDTO(cardBenefits))
+                    .build());
+        });
+
+        return new MatchingCardsResponse(matchingCards);
+    }
 }
@@ -1,43 +1,42 @@
 package com.example.demo.store.service;
 
-import com.example.demo.benefit.entity.Benefit;
-import com.example.demo.benefit.entity.CashbackBenefit;
 import com.example.demo.benefit.application.dto.ChannelType;
-import com.example.demo.benefit.entity.DiscountBenefit;
-import com.example.demo.benefit.entity.PointBenefit;
+import com.example.demo.benefit.catalog.BenefitCatalog;
+import com.example.demo.benefit.catalog.BenefitCatalogSnapshot;
+import com.example.demo.benefit.catalog.CardMatcher;
+import com.example.demo.benefit.catalog.CategoryMask;
+import com.example.demo.benefit.util.LongHashSet;
 import com.example.demo.card.entity.Card;
 import com.example.demo.store.dto.BenefitInfoDTO;
 import com.example.demo.store.dto.CardBenefitDTO;
+import com.example.demo.store.dto.KakaoPlace;
 import com.example.demo.store.dto.StoreInfoDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class StoreCardMatchingService {
 
-    public List<StoreInfoDTO> matchStoresWithCards(List<Map<String, Object>> kakaoPlaces, List<Card> userCards) {
+    private final BenefitCatalog benefitCatalog;
+
+    public List<StoreInfoDTO> matchStoresWithCards(List<KakaoPlace> kakaoPlaces, List<Card> userCards) {
         return matchStoresWithCards(kakaoPlaces, userCards, null);
     }
 
-    public List<StoreInfoDTO> matchStoresWithCards(List<Map<String, Object>> kakaoPlaces, List<Card> userCards, ChannelType channelType) {
+    public List<StoreInfoDTO> matchStoresWithCards(List<KakaoPlace> kakaoPlaces, List<Card> userCards, ChannelType channelType) {
         List<StoreInfoDTO> storesWithCards = new ArrayList<>();
+        CardMatchers cardMatchers = prepareCardMatchers(userCards, channelType);
 
-        for (Map<String, Object> store : kakaoPlaces) {
-            List<CardBenefitDTO> availableCards = findMatchingCards(userCards, store, channelType);
-
-            if (!availableCards.isEmpty()) {
-                StoreInfoDTO storeInfo = StoreInfoDTO.builder()
-                    .id((String) store.get("id"))
-                    .placeName((String) store.get("place_name"))
-                    .availableCards(availableCards)
-                    .build();
+        for (KakaoPlace store : kakaoPlaces) {
+            StoreInfoDTO storeInfo = matchStore(cardMatchers, store, channelType);
+            if (storeInfo != null) {
                 storesWithCards.add(storeInfo);
             }
         }
@@ -45,23 +44,62 @@ public class StoreCardMatchingService {
         return storesWithCards;
     }
 
+    /**
+     * 카카오 검색 결과가 도착하는 대로 매칭 (카드별 매칭기는 구독 전에 한 번만 준비)
+     */
+    public Flux<StoreInfoDTO> matchStoresWithCards(Flux<KakaoPlace> kakaoPlaces, List<Card> userCards, ChannelType channelType) {
+        CardMatchers cardMatchers = prepareCardMatchers(userCards, channelType);
+        return kakaoPlaces.mapNotNull(store -> matchStore(cardMatchers, store, channelType));
+    }
+
+    /**
+     * 카드별 매칭기는 요청 시작 시 한 번만 조회
+     * (카탈로그에 혜택이 없거나 요청 채널 혜택이 없는 카드는 미리 계산된 채널 기능으로 제외)
+     */
+    private CardMatchers prepareCardMatchers(List<Card> userCards, ChannelType channelType) {
+        BenefitCatalogSnapshot catalog = benefitCatalog.current();
+        List<Card> matchableCards = new ArrayList<>(userCards.size());
+        List<CardMatcher> cardMatchers = new ArrayList<>(userCards.size());
+        for (Card card : userCards) {
+            CardMatcher matcher = catalog.getCardMatcher(card.getId());
+            if (matcher != null && matcher.supports(channelType)) {
+                matchableCards.add(card);
+                cardMatchers.add(matcher);
+            }
+        }
+        return new CardMatchers(catalog, matchableCards, cardMatchers);
+    }
+
+    private StoreInfoDTO matchStore(CardMatchers cardMatchers, KakaoPlace store, ChannelType channelType) {
+        List<CardBenefitDTO> availableCards = findMatchingCards(
+                cardMatchers.catalog(), cardMatchers.cards(), cardMatchers.matchers(), store, channelType);
 
-    private List<CardBenefitDTO> findMatchingCards(List<Card> userCards, Map<String, Object> store, ChannelType channelType) {
+        if (availableCards.isEmpty()) {
+            return null;
+        }
+
+        return StoreInfoDTO.builder()
+            .id(store.id())
+            .placeName(store.placeName())
+            .availableCards(availableCards)
+            .build();
+    }
+
+    private List<CardBenefitDTO> findMatchingCards(BenefitCatalogSnapshot catalog, List<Card> cards, List<CardMatcher> cardMatchers,
+                                                   KakaoPlace store, ChannelType channelType) {
         List<CardBenefitDTO> availableCards = new ArrayList<>();
-        String storeName = (String) store.get("place_name");
-        String categoryCode = (String) store.get("category_group_code");
+        String storeName = store.placeName();
+        int categoryBit = CategoryMask.bit(store.categoryGroupCode());
 
-        for (Card card : userCards) {
-            List<BenefitInfoDTO> matchingBenefits = new ArrayList<>();
+        // 매장명에 포함된 적용 대상(브랜드)의 혜택 ID를 매장당 한 번만 계산
+        LongHashSet matchedBenefitIds = LongHashSet.of(catalog.findBenefitIds(storeName));
 
-            for (Benefit benefit : card.getBenefits()) {
-                if (isBenefitApplicable(benefit, storeName, categoryCode, channelType)) {
-                    List<BenefitInfoDTO> benefitInfos = createBenefitInfoList(benefit, channelType);
-                    matchingBenefits.addAll(benefitInfos);
-                }
-            }
+        for (int i = 0; i < cards.size(); i++) {
+            // 카테고리/채널 비트 연산으로 매칭 (매칭되지 않으면 객체 생성 없음)
+            List<BenefitInfoDTO> matchingBenefits = cardMatchers.get(i).match(categoryBit, matchedBenefitIds, channelType);
 
             if (!matchingBenefits.isEmpty()) {
+                Card card = cards.get(i);
                 CardBenefitDTO cardInfo = CardBenefitDTO.builder()
                     .cardId(card.getId())
                     .cardName(card.getCardName())
@@ -75,71 +113,5 @@ public class StoreCardMatchingService {
         return availableCards;
     }
 
-
-    private List<BenefitInfoDTO> createBenefitInfoList(Benefit benefit, ChannelType channelType) {
-        List<BenefitInfoDTO> benefits = new ArrayList<>();
-
-        // 할인 혜택 확인
-        for (DiscountBenefit discount : benefit.getDiscountBenefits()) {
-            if (channelType == null || discount.getChannel() == channelType || discount.getChannel() == ChannelType.BOTH) {
-                benefits.add(BenefitInfoDTO.builder()
-                    .benefitId(benefit.getId())
-                    .benefitType("DISCOUNT")
-                    .rate(discount.getRate())
-                    .amount(discount.getAmount())
-                    .build());
-            }
-        }
-
-        // 포인트 혜택 확인
-        for (PointBenefit point : benefit.getPointBenefits()) {
-            if (channelType == null || point.getChannel() == channelType || point.getChannel() == ChannelType.BOTH) {
-                benefits.add(BenefitInfoDTO.builder()
-                    .benefitId(benefit.getId())
-                    .benefitType("POINT")
-                    .rate(point.getRate())
-                    .build());
-            }
-        }
-
-        // 캐시백 혜택 확인
-        for (CashbackBenefit cashback : benefit.getCashbackBenefits()) {
-            if (channelType == null || cashback.getChannel() == channelType || cashback.getChannel() == ChannelType.BOTH) {
-                benefits.add(BenefitInfoDTO.builder()
-                    .benefitId(benefit.getId())
-                    .benefitType("CASHBACK")
-                    .rate(cashback.getRate())
-                    .amount(cashback.getAmount())
-                    .build());
-            }
-        }
-
-        return benefits;
-    }
-
-
-    private boolean isBenefitApplicable(Benefit benefit, String storeName, String categoryCode, ChannelType channelType) {
-        // 카테고리 매칭 확인
-        if (benefit.getApplicableCategory() != null && !benefit.getApplicableCategory().isEmpty()) {
-            if (!benefit.getApplicableCategory().contains(categoryCode)) {
-                return false;
-            }
-        }
-
-        // ChannelType 검증
-        if (channelType != null) {
-            return hasChannelType(benefit, channelType);
-        }
-
-        return true;
-    }
-
-    private boolean hasChannelType(Benefit benefit, ChannelType channelType) {
-        return benefit.getDiscountBenefits().stream().anyMatch(db -> 
-                db.getChannel() == channelType || db.getChannel() == ChannelType.BOTH) ||
-               benefit.getPointBenefits().stream().anyMatch(pb -> 
-                pb.getChannel() == channelType || pb.getChannel() == ChannelType.BOTH) ||
-               benefit.getCashbackBenefits().stream().anyMatch(cb -> 
-                cb.getChannel() == channelType || cb.getChannel() == ChannelType.BOTH);
-    }
-}
\ No newline at end of file
+    private record CardMatchers(BenefitCatalogSnapshot catalog, List<Card> cards, List<CardMatcher> matchers) {}
+}
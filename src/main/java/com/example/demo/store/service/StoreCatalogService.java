@@ -0,0 +1,208 @@
+package com.example.demo.store.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.benefit.application.dto.ChannelType;
+import com.example.demo.store.dto.KakaoPlace;
+import com.example.demo.store.entity.Store;
+import com.example.demo.store.repository.StoreRepository;
+import com.example.demo.store.util.SpatialGrid;
+import com.example.demo.store.util.TileCoverage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 매장 카탈로그
+ *
+ * 카카오 응답으로 확인된 장소를 stores 테이블에 upsert 하고, 카테고리별 격자 인덱스로 메모리에 보관한다.
+ * 최근 warm-ttl 안에 카카오로 조회한 타일(warm tile)은 그 조회가 덮는 범위(TileCoverage)와 함께 기록해,
+ * 요청 좌표를 덮는 경우에만 카카오 호출 없이 인덱스에서 바로 응답한다.
+ * 검색 응답 경로에서는 저장을 전용 스레드에 넘기고 기다리지 않는다 (saveAsync).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StoreCatalogService {
+
+    private static final double GRID_CELL_METERS = 500;
+    private static final int WARM_TILE_PRUNE_THRESHOLD = 10_000;
+    private static final int MAX_UPSERT_ATTEMPTS = 3;
+    private static final int WRITER_THREADS = 2;
+    private static final int WRITER_QUEUE_SIZE = 256;
+
+    private final StoreRepository storeRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, SpatialGrid<KakaoPlace>> gridsByCategory = new ConcurrentHashMap<>();
+    private final Map<String, WarmTile> warmTiles = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor writer = newWriter();
+
+    @Value("${kakao.store-catalog.warm-ttl:6h}")
+    private Duration warmTtl;
+
+    /**
+     * 애플리케이션 시작 시 저장된 오프라인 매장으로 인덱스 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadIndex() {
+        List<Store> stores = storeRepository.findByChannelTypeAndIsActiveTrue(ChannelType.OFFLINE);
+        for (Store store : stores) {
+            if (store.getLatitude() != null && store.getLongitude() != null && store.getCategoryCode() != null) {
+                index(new KakaoPlace(store.getPlaceId(), store.getPlaceName(), store.getCategoryCode(),
+                        store.getLongitude(), store.getLatitude(), -1));
+            }
+        }
+        log.info("매장 카탈로그 인덱스 로드 완료 - 매장 수: {}", stores.size());
+    }
+
+    /**
+     * 카카오로 조회한 타일 저장을 비동기로 처리 (upsert 커밋 후 warm 표시, 실패해도 검색 결과에는 영향 없음)
+     * 저장 대기열이 가득 차면 건너뛴다 (해당 타일은 warm 이 되지 않아 다음 요청이 캐시 / 카카오 경로로 처리)
+     */
+    public void saveAsync(String categoryCode, String tile, TileCoverage coverage, List<KakaoPlace> places) {
+        writer.execute(() -> {
+            try {
+                upsert(places);
+                markWarm(categoryCode, tile, coverage);
+            } catch (Exception e) {
+                log.warn("매장 카탈로그 저장 실패 - 카테고리: {}, 타일: {}", categoryCode, tile, e);
+            }
+        });
+    }
+
+    /**
+     * 카카오 응답 장소를 장소 ID 기준으로 upsert 후 커밋되면 인덱스 반영
+     *
+     * 이웃 타일 조회가 동시에 같은 장소를 저장하면 한쪽이 place_id 유니크 제약에 걸리므로,
+     * 그 경우 트랜잭션을 새로 열어 다시 조회한 뒤(상대가 넣은 행은 갱신 대상이 됨) 재시도한다.
+     */
+    public void upsert(List<KakaoPlace> places) {
+        Map<String, KakaoPlace> placesById = new HashMap<>();
+        for (KakaoPlace place : places) {
+            if (place.id() != null && !place.id().isBlank()) {
+                placesById.put(place.id(), place);
+            }
+        }
+        if (placesById.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveOrRefresh(placesById));
+                break;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_UPSERT_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("매장 카탈로그 동시 저장 충돌, 재시도 {}/{}", attempt, MAX_UPSERT_ATTEMPTS - 1);
+            }
+        }
+
+        // 커밋된 장소만 인덱스에 반영 (롤백된 장소가 남지 않도록)
+        placesById.values().forEach(this::index);
+    }
+
+    private void saveOrRefresh(Map<String, KakaoPlace> placesById) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Store> existing = new HashMap<>();
+        for (Store store : storeRepository.findByPlaceIdIn(placesById.keySet())) {
+            existing.put(store.getPlaceId(), store);
+        }
+
+        for (KakaoPlace place : placesById.values()) {
+            Store store = existing.get(place.id());
+            if (store != null) {
+                store.refresh(place.placeName(), place.categoryGroupCode(), place.y(), place.x(), now);
+            } else {
+                storeRepository.save(Store.builder()
+                        .placeId(place.id())
+                        .placeName(place.placeName())
+                        .categoryCode(place.categoryGroupCode())
+                        .latitude(place.y())
+                        .longitude(place.x())
+                        .channelType(ChannelType.OFFLINE)
+                        .isActive(true)
+                        .lastSeenAt(now)
+                        .build());
+            }
+        }
+        // 제약 위반을 커밋 전에 드러내 재시도 대상으로 만든다
+        storeRepository.flush();
+    }
+
+    public List<KakaoPlace> findNearby(String categoryCode, double latitude, double longitude, double radiusMeters) {
+        SpatialGrid<KakaoPlace> grid = gridsByCategory.get(categoryCode);
+        return grid != null ? grid.within(latitude, longitude, radiusMeters) : List.of();
+    }
+
+    /**
+     * 타일을 카카오로 조회했음을 조회 범위와 함께 기록 (warm-ttl 동안 범위 안 요청은 로컬 응답)
+     */
+    public void markWarm(String categoryCode, String tile, TileCoverage coverage) {
+        long now = System.currentTimeMillis();
+        if (warmTiles.size() > WARM_TILE_PRUNE_THRESHOLD) {
+            warmTiles.values().removeIf(warmTile -> warmTile.expiresAt() <= now);
+        }
+        warmTiles.put(categoryCode + ":" + tile, new WarmTile(coverage, now + warmTtl.toMillis()));
+    }
+
+    /**
+     * warm 상태인 타일의 조회 범위 (만료되었거나 조회한 적 없으면 empty)
+     */
+    public Optional<TileCoverage> findWarmCoverage(String categoryCode, String tile) {
+        WarmTile warmTile = warmTiles.get(categoryCode + ":" + tile);
+        if (warmTile == null || warmTile.expiresAt() <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(warmTile.coverage());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writer.shutdownNow();
+    }
+
+    private void index(KakaoPlace place) {
+        if (place.categoryGroupCode() == null || place.categoryGroupCode().isBlank()) {
+            return;
+        }
+        gridsByCategory.computeIfAbsent(place.categoryGroupCode(), code -> new SpatialGrid<>(GRID_CELL_METERS))
+                .put(place.id(), place.y(), place.x(), place);
+    }
+
+    private static ThreadPoolExecutor newWriter() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(WRITER_THREADS, WRITER_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(WRITER_QUEUE_SIZE),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "store-catalog-writer-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, executor) -> log.warn("매장 카탈로그 저장 대기열 초과로 건너뜀 - 대기: {}", executor.getQueue().size()));
+    }
+
+    private record WarmTile(TileCoverage coverage, long expiresAt) {}
+}
@@ -0,0 +1,145 @@
+package com.example.demo.store.util;
+
+import java.util.Arrays;
+
+/**
+ * GeoHash 인코딩 / 셀 범위 / 인접 셀 계산
+ * 좌표를 일정 크기의 타일로 스냅해 근처 요청끼리 같은 캐시 키를 쓰도록 하기 위해 사용
+ */
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final int[] DECODE = new int[128];
+
+    static {
+        Arrays.fill(DECODE, -1);
+        for (int i = 0; i < BASE32.length; i++) {
+            DECODE[BASE32[i]] = i;
+        }
+    }
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        StringBuilder hash = new StringBuilder(precision);
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 셀 범위 {minLat, minLng, maxLat, maxLng}
+     */
+    public static double[] bounds(String hash) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        boolean evenBit = true;
+
+        for (int i = 0; i < hash.length(); i++) {
+            char c = hash.charAt(i);
+            int value = c < DECODE.length ? DECODE[c] : -1;
+            if (value < 0) {
+                throw new IllegalArgumentException("잘못된 geohash: " + hash);
+            }
+            for (int shift = 4; shift >= 0; shift--) {
+                boolean on = ((value >> shift) & 1) == 1;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (on) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (on) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{minLat, minLng, maxLat, maxLng};
+    }
+
+    /**
+     * 셀 중심 {lat, lng}
+     */
+    public static double[] center(String hash) {
+        double[] bounds = bounds(hash);
+        return new double[]{(bounds[0] + bounds[2]) / 2, (bounds[1] + bounds[3]) / 2};
+    }
+
+    /**
+     * 셀 대각선 길이 (m)
+     */
+    public static double diagonalMeters(String hash) {
+        double[] bounds = bounds(hash);
+        return GeoDistance.meters(bounds[0], bounds[1], bounds[2], bounds[3]);
+    }
+
+    /**
+     * 주변 8개 셀 (같은 정밀도, 중심에서 셀 크기만큼 이동한 좌표로 계산)
+     */
+    public static String[] neighbours(String hash) {
+        double[] bounds = bounds(hash);
+        double latStep = bounds[2] - bounds[0];
+        double lngStep = bounds[3] - bounds[1];
+        double centerLat = (bounds[0] + bounds[2]) / 2;
+        double centerLng = (bounds[1] + bounds[3]) / 2;
+
+        String[] neighbours = new String[8];
+        int index = 0;
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                if (dLat == 0 && dLng == 0) {
+                    continue;
+                }
+                double lat = Math.max(-90, Math.min(90, centerLat + dLat * latStep));
+                double lng = centerLng + dLng * lngStep;
+                if (lng > 180) {
+                    lng -= 360;
+                } else if (lng < -180) {
+                    lng += 360;
+                }
+                neighbours[index++] = encode(lat, lng, hash.length());
+            }
+        }
+        return neighbours;
+    }
+}
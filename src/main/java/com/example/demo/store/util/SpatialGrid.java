@@ -0,0 +1,79 @@
+package com.example.demo.store.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 균일 격자 공간 인덱스 ("좌표 기준 반경 R 미터 안의 항목" 조회)
+ *
+ * 위도 / 경도를 cellMeters 크기(위도 기준)의 정사각 도(degree) 격자로 나눠 셀별로 항목을 보관한다.
+ * 조회 시 반경을 감싸는 셀만 훑고 하버사인 거리로 다시 거른다.
+ * 같은 ID 로 다시 넣으면 기존 위치를 대체한다. 쓰기는 직렬화, 읽기는 잠금 없이 수행.
+ */
+public final class SpatialGrid<T> {
+
+    private static final double METERS_PER_DEGREE_LAT = 111_320d;
+
+    private final double cellDegrees;
+    private final Map<Long, Map<String, Point<T>>> cells = new ConcurrentHashMap<>();
+    private final Map<String, Long> cellById = new ConcurrentHashMap<>();
+
+    public SpatialGrid(double cellMeters) {
+        this.cellDegrees = cellMeters / METERS_PER_DEGREE_LAT;
+    }
+
+    public synchronized void put(String id, double latitude, double longitude, T value) {
+        long cell = cellKey(cellIndex(latitude), cellIndex(longitude));
+        Long previousCell = cellById.put(id, cell);
+        if (previousCell != null && previousCell != cell) {
+            Map<String, Point<T>> previous = cells.get(previousCell);
+            if (previous != null) {
+                previous.remove(id);
+            }
+        }
+        cells.computeIfAbsent(cell, key -> new ConcurrentHashMap<>())
+                .put(id, new Point<>(latitude, longitude, value));
+    }
+
+    public List<T> within(double latitude, double longitude, double radiusMeters) {
+        double latSpan = radiusMeters / METERS_PER_DEGREE_LAT;
+        double lngSpan = radiusMeters / (METERS_PER_DEGREE_LAT * Math.max(Math.cos(Math.toRadians(latitude)), 1e-6));
+
+        int minLatCell = cellIndex(latitude - latSpan);
+        int maxLatCell = cellIndex(latitude + latSpan);
+        int minLngCell = cellIndex(longitude - lngSpan);
+        int maxLngCell = cellIndex(longitude + lngSpan);
+
+        List<T> result = new ArrayList<>();
+        for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+            for (int lngCell = minLngCell; lngCell <= maxLngCell; lngCell++) {
+                Map<String, Point<T>> cell = cells.get(cellKey(latCell, lngCell));
+                if (cell == null) {
+                    continue;
+                }
+                for (Point<T> point : cell.values()) {
+                    if (GeoDistance.meters(latitude, longitude, point.latitude(), point.longitude()) <= radiusMeters) {
+                        result.add(point.value());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return cellById.size();
+    }
+
+    private int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xFFFFFFFFL);
+    }
+
+    private record Point<T>(double latitude, double longitude, T value) {}
+}
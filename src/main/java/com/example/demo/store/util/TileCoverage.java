@@ -0,0 +1,57 @@
+package com.example.demo.store.util;
+
+import java.util.Collection;
+
+import com.example.demo.store.dto.KakaoPlace;
+
+/**
+ * 한 번의 카카오 조회가 빠짐없이 덮는 원 (조회 좌표 + 유효 반경)
+ *
+ * 카카오는 거리순 상위 size 개만 돌려주므로, 결과가 size 개보다 적으면 조회 반경 전체를,
+ * size 개가 꽉 차면 가장 먼 결과까지의 거리만 덮었다고 본다.
+ * 다른 좌표의 요청은 이 원 안에서 자기 좌표 기준으로 남는 반경(reach) 만큼만 결과가 완전하다.
+ */
+public record TileCoverage(double latitude, double longitude, double radiusMeters) {
+
+    public static TileCoverage of(double latitude, double longitude, int requestRadius,
+                                  Collection<KakaoPlace> places, int pageSize) {
+        if (places.size() < pageSize) {
+            return new TileCoverage(latitude, longitude, requestRadius);
+        }
+        double farthest = 0;
+        for (KakaoPlace place : places) {
+            farthest = Math.max(farthest, GeoDistance.meters(latitude, longitude, place.y(), place.x()));
+        }
+        return new TileCoverage(latitude, longitude, Math.min(farthest, requestRadius));
+    }
+
+    /**
+     * 요청 좌표 기준으로 결과가 완전한 반경 (음수면 전혀 덮지 않음)
+     */
+    public double reachFrom(double latitude, double longitude) {
+        return radiusMeters - GeoDistance.meters(this.latitude, this.longitude, latitude, longitude);
+    }
+
+    /**
+     * 요청 좌표의 "반경 searchRadius 안 거리순 상위 pageSize 개"를 places 로 정확히 답할 수 있는지
+     * - reach 가 검색 반경 이상이면 반경 안 장소가 모두 포함
+     * - 아니면 reach 안에 pageSize 개 이상 있어야 상위 pageSize 개가 모두 포함
+     */
+    public boolean answers(double latitude, double longitude, int searchRadius,
+                           Collection<KakaoPlace> places, int pageSize) {
+        double reach = reachFrom(latitude, longitude);
+        if (reach >= searchRadius) {
+            return true;
+        }
+        if (reach <= 0) {
+            return false;
+        }
+        int within = 0;
+        for (KakaoPlace place : places) {
+            if (GeoDistance.meters(latitude, longitude, place.y(), place.x()) <= reach && ++within >= pageSize) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.user.dto;
+
+public record BenefitUsageCounterRow(
+    Long userId,        // 사용자 ID
+    Long cardId,        // 카드 ID
+    String benefitType, // DISCOUNT, POINT, CASHBACK
+    Long usedAmount     // 사용한 혜택 금액 합계
+) {}
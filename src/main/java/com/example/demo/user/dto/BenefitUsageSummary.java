@@ -0,0 +1,7 @@
+package com.example.demo.user.dto;
+
+public record BenefitUsageSummary(
+    Long cardId,        // 카드 ID
+    String benefitType, // DISCOUNT, POINT, CASHBACK
+    Long usedAmount     // 사용한 혜택 금액 합계
+) {}
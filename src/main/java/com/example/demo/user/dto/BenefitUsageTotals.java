@@ -0,0 +1,44 @@
+package com.example.demo.user.dto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자의 (카드, 혜택 타입)별 사용 금액 합계
+ * 집계 쿼리 한 번의 결과를 요청 안에서 재사용하기 위한 조회용 객체
+ */
+public class BenefitUsageTotals {
+
+    private static final BenefitUsageTotals EMPTY = new BenefitUsageTotals(Map.of());
+
+    private final Map<Long, Map<String, Long>> usedAmounts;
+
+    private BenefitUsageTotals(Map<Long, Map<String, Long>> usedAmounts) {
+        this.usedAmounts = usedAmounts;
+    }
+
+    public static BenefitUsageTotals empty() {
+        return EMPTY;
+    }
+
+    public static BenefitUsageTotals from(List<BenefitUsageSummary> summaries) {
+        Map<Long, Map<String, Long>> usedAmounts = new HashMap<>();
+        for (BenefitUsageSummary summary : summaries) {
+            usedAmounts.computeIfAbsent(summary.cardId(), key -> new HashMap<>())
+                    .merge(summary.benefitType(), summary.usedAmount() != null ? summary.usedAmount() : 0L, Long::sum);
+        }
+        return new BenefitUsageTotals(usedAmounts);
+    }
+
+    /**
+     * 사용 이력이 없으면 0 반환
+     */
+    public long getUsedAmount(Long cardId, String benefitType) {
+        Map<String, Long> byType = usedAmounts.get(cardId);
+        if (byType == null) {
+            return 0L;
+        }
+        return byType.getOrDefault(benefitType, 0L);
+    }
+}
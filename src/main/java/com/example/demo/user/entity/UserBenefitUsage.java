@@ -13,6 +13,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,7 +27,8 @@ import lombok.NoArgsConstructor;
 public class UserBenefitUsage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "userBenefitUsageSeq")
+    @SequenceGenerator(name = "userBenefitUsageSeq", sequenceName = "user_benefit_usage_seq", allocationSize = 100)
     private Long id;
 
     @Column(nullable = false)
@@ -67,6 +69,7 @@ public class UserBenefitUsage {
         this.usedAmount = usedAmount;
         this.remainingLimit = remainingLimit;
         this.place = place;
+        this.usedAt = usedAt != null ? usedAt : LocalDateTime.now();
     }
 }
 
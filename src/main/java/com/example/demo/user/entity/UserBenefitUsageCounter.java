@@ -0,0 +1,61 @@
+package com.example.demo.user.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 혜택 사용 금액 월별 집계
+ * user_benefit_usage 원장을 매번 SUM 하지 않도록 (사용자, 카드, 혜택 타입, 월) 단위로 누적해 둔다.
+ */
+@Entity
+@Table(name = "user_benefit_usage_counter",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_usage_counter_bucket",
+                columnNames = {"user_id", "card_id", "benefit_type", "usage_month"}))
+@Getter
+@NoArgsConstructor
+public class UserBenefitUsageCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "card_id", nullable = false)
+    private Long cardId;
+
+    @Column(name = "benefit_type", nullable = false)
+    private String benefitType; // DISCOUNT, POINT, CASHBACK
+
+    @Column(name = "usage_month", nullable = false, length = 6)
+    private String usageMonth; // yyyyMM
+
+    @Column(nullable = false)
+    private Long usedAmount; // 해당 월 사용 금액 합계
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public UserBenefitUsageCounter(Long id, Long userId, Long cardId, String benefitType, String usageMonth, Long usedAmount, LocalDateTime updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.cardId = cardId;
+        this.benefitType = benefitType;
+        this.usageMonth = usageMonth;
+        this.usedAmount = usedAmount;
+        this.updatedAt = updatedAt;
+    }
+}
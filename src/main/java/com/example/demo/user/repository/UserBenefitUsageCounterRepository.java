@@ -0,0 +1,68 @@
+package com.example.demo.user.repository;
+
+import com.example.demo.user.dto.BenefitUsageSummary;
+import com.example.demo.user.entity.UserBenefitUsageCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface UserBenefitUsageCounterRepository extends JpaRepository<UserBenefitUsageCounter, Long> {
+
+    /**
+     * 월별 집계 행에 사용 금액 누적 (행이 없으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE UserBenefitUsageCounter c " +
+           "SET c.usedAmount = c.usedAmount + :amount, c.updatedAt = :updatedAt " +
+           "WHERE c.userId = :userId AND c.cardId = :cardId " +
+           "AND c.benefitType = :benefitType AND c.usageMonth = :usageMonth")
+    int addUsedAmount(@Param("userId") Long userId,
+                      @Param("cardId") Long cardId,
+                      @Param("benefitType") String benefitType,
+                      @Param("usageMonth") String usageMonth,
+                      @Param("amount") Long amount,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 사용자의 해당 월 (카드, 혜택 타입)별 사용 금액 조회
+     */
+    @Query("SELECT new com.example.demo.user.dto.BenefitUsageSummary(c.cardId, c.benefitType, c.usedAmount) " +
+           "FROM UserBenefitUsageCounter c " +
+           "WHERE c.userId = :userId AND c.usageMonth = :usageMonth")
+    List<BenefitUsageSummary> findMonthlySummary(@Param("userId") Long userId,
+                                                 @Param("usageMonth") String usageMonth);
+
+    /**
+     * 월별 집계 행의 사용 금액을 지정 값으로 설정 (행이 없으면 0 반환) - 원장 기준 재구성용
+     */
+    @Modifying
+    @Query("UPDATE UserBenefitUsageCounter c " +
+           "SET c.usedAmount = :usedAmount, c.updatedAt = :updatedAt " +
+           "WHERE c.userId = :userId AND c.cardId = :cardId " +
+           "AND c.benefitType = :benefitType AND c.usageMonth = :usageMonth")
+    int setUsedAmount(@Param("userId") Long userId,
+                      @Param("cardId") Long cardId,
+                      @Param("benefitType") String benefitType,
+                      @Param("usageMonth") String usageMonth,
+                      @Param("usedAmount") Long usedAmount,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 월별 집계 행 조회 + 쓰기 락 (원장 기준 재구성용)
+     * 사용 내역을 누적 중인 트랜잭션이 있으면 커밋될 때까지 기다린다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<UserBenefitUsageCounter> findByUserIdAndCardIdAndBenefitTypeAndUsageMonth(Long userId,
+                                                                                      Long cardId,
+                                                                                      String benefitType,
+                                                                                      String usageMonth);
+
+    List<UserBenefitUsageCounter> findByUsageMonth(String usageMonth);
+}
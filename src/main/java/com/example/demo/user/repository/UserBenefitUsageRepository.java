@@ -1,22 +1,37 @@
 package com.example.demo.user.repository;
 
+import com.example.demo.user.dto.BenefitUsageCounterRow;
 import com.example.demo.user.entity.UserBenefitUsage;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
 
 
 public interface UserBenefitUsageRepository extends JpaRepository<UserBenefitUsage, Long> {
-    
 
-    @Lock(LockModeType.PESSIMISTIC_READ)
+    /**
+     * 기간 내 원장을 (사용자, 카드, 혜택 타입)별로 집계 - 월별 집계 재구성용
+     */
+    @Query("SELECT new com.example.demo.user.dto.BenefitUsageCounterRow(ubu.userId, ubu.card.id, ubu.benefitType, SUM(ubu.usedAmount)) " +
+           "FROM UserBenefitUsage ubu " +
+           "WHERE ubu.usedAt >= :from AND ubu.usedAt < :to " +
+           "GROUP BY ubu.userId, ubu.card.id, ubu.benefitType")
+    List<BenefitUsageCounterRow> aggregateUsageBetween(@Param("from") LocalDateTime from,
+                                                       @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 내 한 집계 단위(사용자, 카드, 혜택 타입)의 사용 금액 합계 - 집계 행 재구성용
+     */
     @Query("SELECT COALESCE(SUM(ubu.usedAmount), 0) FROM UserBenefitUsage ubu " +
-           "WHERE ubu.userId = :userId AND ubu.card.id = :cardId AND ubu.benefitType = :benefitType")
-    Long findTotalUsedAmountByUserAndCardAndBenefitType(@Param("userId") Long userId, 
-                                                       @Param("cardId") Long cardId, 
-                                                       @Param("benefitType") String benefitType);
+           "WHERE ubu.userId = :userId AND ubu.card.id = :cardId AND ubu.benefitType = :benefitType " +
+           "AND ubu.usedAt >= :from AND ubu.usedAt < :to")
+    Long sumUsedAmountBetween(@Param("userId") Long userId,
+                              @Param("cardId") Long cardId,
+                              @Param("benefitType") String benefitType,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to);
     
 }
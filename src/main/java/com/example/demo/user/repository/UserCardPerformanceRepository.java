@@ -5,12 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 
 import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserCardPerformanceRepository extends JpaRepository<UserCardPerformance, Long> {
     
     @Lock(LockModeType.PESSIMISTIC_READ)
     Optional<UserCardPerformance> findByUserIdAndCardId(Long userId, Long cardId);
+
+    List<UserCardPerformance> findByUserId(Long userId);
     
 }
 
@@ -5,18 +5,23 @@ import com.example.demo.user.entity.UserCardPerformance;
 import com.example.demo.user.entity.UserBenefitUsage;
 import com.example.demo.user.repository.UserCardPerformanceRepository;
 import com.example.demo.user.repository.UserBenefitUsageRepository;
+import com.example.demo.benefit.catalog.BenefitCatalog;
+import com.example.demo.benefit.catalog.BenefitCatalogSnapshot;
 import com.example.demo.benefit.entity.Benefit;
 import com.example.demo.benefit.repository.BenefitRepository;
 import com.example.demo.card.entity.Card;
 import com.example.demo.user.entity.UserCard;
 import com.example.demo.user.repository.UserCardRepository;
+import com.example.demo.event.UserBenefitStateChangedEvent;
 import com.example.demo.lock.RedisLockUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +35,9 @@ public class AutomaticBenefitCalculationService {
     private final BenefitRepository benefitRepository;
     private final UserCardRepository userCardRepository;
     private final RedisLockUtil redisLockUtil;
+    private final BenefitUsageCounterService benefitUsageCounterService;
+    private final BenefitCatalog benefitCatalog;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 소비내역 저장 후 자동으로 실적과 혜택 계산
@@ -42,15 +50,20 @@ public class AutomaticBenefitCalculationService {
         // 1. 사용자 보유 카드 조회
         List<Card> userCards = getUserCards(expense.getUserId());
         
+        // 사용 장소명에 포함된 적용 대상(브랜드)의 혜택 ID를 한 번만 매칭
+        BenefitCatalogSnapshot catalog = benefitCatalog.current();
+        long[] matchedBenefitIds = catalog.findBenefitIds(expense.getPlace());
+        
         for (Card card : userCards) {
             try {
                 // 2. 실적 업데이트
                 updateCardPerformance(expense.getUserId(), card.getId(), expense.getAmount());
                 
                 // 3. 해당 카드의 혜택이 적용되는지 확인
-                if (isBenefitApplicable(expense, card)) {
+                List<Long> applicableBenefitIds = findCardBenefitIds(catalog, matchedBenefitIds, card.getId());
+                if (isBenefitApplicable(expense, card, applicableBenefitIds)) {
                     // 4. 혜택 자동 적용
-                    applyAutomaticBenefit(expense, card);
+                    applyAutomaticBenefit(expense, card, applicableBenefitIds);
                 }
                 
             } catch (Exception e) {
@@ -58,6 +71,13 @@ public class AutomaticBenefitCalculationService {
             }
         }
         
+        // 실적/혜택 사용 금액 변경 알림 (커밋 이후 매칭 캐시 무효화)
+        eventPublisher.publishEvent(UserBenefitStateChangedEvent.builder()
+                .userId(expense.getUserId())
+                .reason("EXPENSE_PROCESSED")
+                .occurredAt(LocalDateTime.now())
+                .build());
+        
         log.info("소비내역 기반 자동 혜택 계산 완료");
     }
     
@@ -121,10 +141,26 @@ public class AutomaticBenefitCalculationService {
         }
     }
     
+    /**
+     * 매칭된 혜택 중 해당 카드에 연결된 혜택 ID
+     */
+    private List<Long> findCardBenefitIds(BenefitCatalogSnapshot catalog, long[] matchedBenefitIds, Long cardId) {
+        List<Long> benefitIds = new ArrayList<>();
+        for (long benefitId : matchedBenefitIds) {
+            for (long linkedCardId : catalog.findCardIds(benefitId)) {
+                if (linkedCardId == cardId) {
+                    benefitIds.add(benefitId);
+                    break;
+                }
+            }
+        }
+        return benefitIds;
+    }
+    
     /**
      * 혜택 적용 가능 여부 확인
      */
-    private boolean isBenefitApplicable(Expense expense, Card card) {
+    private boolean isBenefitApplicable(Expense expense, Card card, List<Long> applicableBenefitIds) {
         // 1. 실적 달성 확인
         Optional<UserCardPerformance> performance = userCardPerformanceRepository
                 .findByUserIdAndCardId(expense.getUserId(), card.getId());
@@ -134,16 +170,14 @@ public class AutomaticBenefitCalculationService {
         }
         
         // 2. 해당 장소에 적용되는 혜택이 있는지 확인
-        List<Benefit> applicableBenefits = benefitRepository.findByCardIdAndPlace(card.getId(), expense.getPlace());
-        
-        return !applicableBenefits.isEmpty();
+        return !applicableBenefitIds.isEmpty();
     }
     
     /**
      * 자동 혜택 적용
      */
-    private void applyAutomaticBenefit(Expense expense, Card card) {
-        List<Benefit> applicableBenefits = benefitRepository.findByCardIdAndPlace(card.getId(), expense.getPlace());
+    private void applyAutomaticBenefit(Expense expense, Card card, List<Long> applicableBenefitIds) {
+        List<Benefit> applicableBenefits = benefitRepository.findAllById(applicableBenefitIds);
         
         for (Benefit benefit : applicableBenefits) {
             // 혜택 타입별 자동 적용
@@ -205,6 +239,7 @@ public class AutomaticBenefitCalculationService {
                     .build();
             
             userBenefitUsageRepository.save(usage);
+            benefitUsageCounterService.addUsage(expense.getUserId(), card.getId(), "DISCOUNT", usage.getUsedAt(), discountAmount);
             
             log.info("할인 혜택 자동 적용 - 카드: {}, 할인금액: {}", card.getCardName(), discountAmount);
         }
@@ -254,6 +289,7 @@ public class AutomaticBenefitCalculationService {
                     .build();
             
             userBenefitUsageRepository.save(usage);
+            benefitUsageCounterService.addUsage(expense.getUserId(), card.getId(), "POINT", usage.getUsedAt(), pointAmount);
             
             log.info("포인트 혜택 자동 적용 - 카드: {}, 포인트: {}", card.getCardName(), pointAmount);
         }
@@ -303,6 +339,7 @@ public class AutomaticBenefitCalculationService {
                     .build();
             
             userBenefitUsageRepository.save(usage);
+            benefitUsageCounterService.addUsage(expense.getUserId(), card.getId(), "CASHBACK", usage.getUsedAt(), cashbackAmount);
             
             log.info("캐시백 혜택 자동 적용 - 카드: {}, 캐시백: {}", card.getCardName(), cashbackAmount);
         }
@@ -0,0 +1,31 @@
+package com.example.demo.user.service;
+
+import java.time.YearMonth;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월별 혜택 사용 집계 복구 작업
+ * 누적 중 실패 등으로 어긋난 집계를 매일 새벽 원장 기준으로 다시 맞춘다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BenefitUsageCounterRebuildJob {
+
+    private final BenefitUsageCounterService benefitUsageCounterService;
+
+    @Scheduled(cron = "${benefit.usage-counter.rebuild-cron:0 30 4 * * *}")
+    public void rebuildCurrentMonth() {
+        YearMonth month = YearMonth.now();
+        try {
+            benefitUsageCounterService.rebuild(month);
+        } catch (Exception e) {
+            log.error("월별 혜택 사용 집계 재구성 실패 - 월: {}", month, e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.demo.user.service;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.demo.lock.RedisLockUtil;
+import com.example.demo.user.dto.BenefitUsageCounterRow;
+import com.example.demo.user.dto.BenefitUsageTotals;
+import com.example.demo.user.entity.UserBenefitUsageCounter;
+import com.example.demo.user.repository.UserBenefitUsageCounterRepository;
+import com.example.demo.user.repository.UserBenefitUsageRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 월별 혜택 사용 금액 집계 관리
+ *
+ * - 혜택 사용 원장 저장 시 같은 트랜잭션에서 해당 월 집계를 누적
+ * - 한도 조회는 원장 SUM 대신 집계 행만 읽음 (사용자 보유 카드 x 혜택 타입 수만큼)
+ * - 원장 기준 재구성으로 집계 복구 (집계 단위별 분산락 + 덮어쓰기)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BenefitUsageCounterService {
+
+    private static final DateTimeFormatter USAGE_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final int MAX_BUCKET_ATTEMPTS = 2;
+
+    private final UserBenefitUsageCounterRepository userBenefitUsageCounterRepository;
+    private final UserBenefitUsageRepository userBenefitUsageRepository;
+    private final RedisLockUtil redisLockUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 사용 금액 누적
+     * 호출 측의 benefit:{userId}:{cardId}:{type} 분산락 안에서 실행되므로
+     * 같은 집계 행에 대한 UPDATE 후 INSERT 경합은 발생하지 않는다.
+     */
+    @Transactional
+    public void addUsage(Long userId, Long cardId, String benefitType, LocalDateTime usedAt, Long amount) {
+        String usageMonth = toUsageMonth(usedAt);
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = userBenefitUsageCounterRepository.addUsedAmount(
+                userId, cardId, benefitType, usageMonth, amount, now);
+
+        if (updated == 0) {
+            userBenefitUsageCounterRepository.save(UserBenefitUsageCounter.builder()
+                    .userId(userId)
+                    .cardId(cardId)
+                    .benefitType(benefitType)
+                    .usageMonth(usageMonth)
+                    .usedAmount(amount)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    /**
+     * 이번 달 (카드, 혜택 타입)별 사용 금액 조회
+     */
+    @Transactional(readOnly = true)
+    public BenefitUsageTotals getCurrentMonthTotals(Long userId) {
+        return BenefitUsageTotals.from(
+                userBenefitUsageCounterRepository.findMonthlySummary(userId, toUsageMonth(LocalDateTime.now())));
+    }
+
+    /**
+     * 원장 기준으로 해당 월 집계 재구성
+     *
+     * 집계 행을 지우고 다시 넣지 않고 집계 단위(사용자, 카드, 혜택 타입)별로 짧은 트랜잭션에서 덮어쓴다.
+     * addUsage 의 분산락은 사용 내역 트랜잭션이 커밋되기 전에 풀리므로 분산락만으로는 부족하고,
+     * 단위마다 집계 행을 먼저 쓰기 락으로 잡아 누적 중인 트랜잭션의 커밋을 기다린 뒤 원장 합계를 읽는다.
+     * (누적 트랜잭션은 분산락 안에서 집계 행 UPDATE / INSERT 를 이미 실행했으므로 락 대기가 보장된다)
+     * 집계 행이 없던 단위에서 같은 행을 먼저 INSERT 한 누적 트랜잭션과 부딪히면 그 단위만 다시 재구성한다.
+     * 원장에 없는 집계 행은 0 으로 맞춘다.
+     */
+    public int rebuild(YearMonth month) {
+        String usageMonth = month.format(USAGE_MONTH_FORMAT);
+        LocalDateTime from = month.atDay(1).atStartOfDay();
+        LocalDateTime to = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        Set<BucketKey> buckets = new LinkedHashSet<>();
+        for (BenefitUsageCounterRow row : userBenefitUsageRepository.aggregateUsageBetween(from, to)) {
+            buckets.add(new BucketKey(row.userId(), row.cardId(), row.benefitType()));
+        }
+        for (UserBenefitUsageCounter counter : userBenefitUsageCounterRepository.findByUsageMonth(usageMonth)) {
+            buckets.add(new BucketKey(counter.getUserId(), counter.getCardId(), counter.getBenefitType()));
+        }
+
+        int rebuilt = 0;
+        int skipped = 0;
+        for (BucketKey bucket : buckets) {
+            try {
+                redisLockUtil.acquireAndRunLock(
+                        String.format("benefit:%d:%d:%s", bucket.userId(), bucket.cardId(), bucket.benefitType()),
+                        () -> {
+                            rebuildBucketWithRetry(bucket, usageMonth, from, to);
+                            return null;
+                        });
+                rebuilt++;
+            } catch (RedisLockUtil.DistributedLockException e) {
+                // 사용 처리 중이거나 재구성에 실패한 단위는 다음 재구성에서 맞춘다
+                skipped++;
+                log.warn("월별 혜택 사용 집계 재구성 건너뜀 - 월: {}, 단위: {}", usageMonth, bucket, e);
+            }
+        }
+
+        log.info("월별 혜택 사용 집계 재구성 - 월: {}, 재구성: {}, 건너뜀: {}", usageMonth, rebuilt, skipped);
+        return rebuilt;
+    }
+
+    private void rebuildBucketWithRetry(BucketKey bucket, String usageMonth, LocalDateTime from, LocalDateTime to) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuildBucket(bucket, usageMonth, from, to));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_BUCKET_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("집계 행 동시 생성 충돌, 재구성 재시도 - 월: {}, 단위: {}", usageMonth, bucket);
+            }
+        }
+    }
+
+    /**
+     * 집계 행 락 -> 원장 합계 순서로 읽어야 커밋 전 누적분을 덮어쓰지 않는다
+     */
+    private void rebuildBucket(BucketKey bucket, String usageMonth, LocalDateTime from, LocalDateTime to) {
+        Optional<UserBenefitUsageCounter> counter = userBenefitUsageCounterRepository
+                .findByUserIdAndCardIdAndBenefitTypeAndUsageMonth(
+                        bucket.userId(), bucket.cardId(), bucket.benefitType(), usageMonth);
+
+        Long usedAmount = userBenefitUsageRepository.sumUsedAmountBetween(
+                bucket.userId(), bucket.cardId(), bucket.benefitType(), from, to);
+        long amount = usedAmount != null ? usedAmount : 0L;
+        LocalDateTime now = LocalDateTime.now();
+
+        if (counter.isPresent()) {
+            userBenefitUsageCounterRepository.setUsedAmount(
+                    bucket.userId(), bucket.cardId(), bucket.benefitType(), usageMonth, amount, now);
+        } else if (amount > 0) {
+            userBenefitUsageCounterRepository.save(UserBenefitUsageCounter.builder()
+                    .userId(bucket.userId())
+                    .cardId(bucket.cardId())
+                    .benefitType(bucket.benefitType())
+                    .usageMonth(usageMonth)
+                    .usedAmount(amount)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    private String toUsageMonth(LocalDateTime dateTime) {
+        return (dateTime != null ? dateTime : LocalDateTime.now()).format(USAGE_MONTH_FORMAT);
+    }
+
+    private record BucketKey(Long userId, Long cardId, String benefitType) {}
+}
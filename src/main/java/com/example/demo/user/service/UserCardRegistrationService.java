@@ -1,5 +1,8 @@
 package com.example.demo.user.service;
 
+import java.time.LocalDateTime;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -7,6 +10,7 @@ import com.example.demo.benefit.dto.CardWithBenefitResponse;
 import com.example.demo.benefit.util.BenefitConverter;
 import com.example.demo.card.entity.Card;
 import com.example.demo.card.repository.CardRepository;
+import com.example.demo.event.UserBenefitStateChangedEvent;
 import com.example.demo.user.dto.UserCardRegistrationRequest;
 import com.example.demo.user.entity.UserCard;
 import com.example.demo.user.repository.UserCardRepository;
@@ -21,6 +25,7 @@ public class UserCardRegistrationService {
     private final UserCardRepository userCardRepository;
     private final CardRepository cardRepository;
     private final BenefitConverter benefitConverter;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 사용자 카드 등록
     @Transactional
@@ -46,6 +51,7 @@ public class UserCardRegistrationService {
 
         // 저장
         userCardRepository.save(userCard);
+        publishStateChanged(request.userId(), "CARD_REGISTERED");
         
         log.info("사용자 카드 등록 완료 - 사용자: {}, 카드: {}", request.userId(), request.cardId());
 
@@ -70,7 +76,17 @@ public class UserCardRegistrationService {
 
         userCard.setIsActive(false);
         userCardRepository.save(userCard);
+        publishStateChanged(userId, "CARD_UNREGISTERED");
         
         log.info("사용자 카드 등록 해제 완료 - 사용자: {}, 카드: {}", userId, cardId);
     }
+
+    // 보유 카드 변경 알림 (커밋 이후 매칭 캐시 무효화)
+    private void publishStateChanged(Long userId, String reason) {
+        eventPublisher.publishEvent(UserBenefitStateChangedEvent.builder()
+                .userId(userId)
+                .reason(reason)
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
 }
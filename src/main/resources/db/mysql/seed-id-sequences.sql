@@ -0,0 +1,37 @@
+-- 운영(MySQL) 1회성 마이그레이션: IDENTITY(AUTO_INCREMENT) -> 시퀀스 테이블 ID 전환
+--
+-- MySQL 에는 시퀀스가 없어 Hibernate 가 *_seq 테이블(next_val)로 시퀀스를 흉내 내는데,
+-- 새로 만들어진 *_seq 테이블은 1 부터 시작하므로 기존 AUTO_INCREMENT ID 와 충돌한다.
+-- 새 버전 배포 전에 애플리케이션을 내린 상태에서 한 번 실행한다.
+--
+-- pooled 최적화기(allocationSize = 100)는 읽은 next_val 을 블록의 상한으로 보고
+-- (next_val - 99) ~ next_val 구간을 할당하므로, next_val 은 MAX(id) + 1 이 아니라 MAX(id) + 100 으로 맞춘다.
+-- 엔티티의 allocationSize 를 바꾸면 아래 100 도 함께 바꿔야 한다.
+
+CREATE TABLE IF NOT EXISTS card_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM card_seq;
+INSERT INTO card_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM card;
+
+CREATE TABLE IF NOT EXISTS card_benefit_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM card_benefit_seq;
+INSERT INTO card_benefit_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM card_benefit;
+
+CREATE TABLE IF NOT EXISTS benefit_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM benefit_seq;
+INSERT INTO benefit_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM benefit;
+
+CREATE TABLE IF NOT EXISTS discount_benefit_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM discount_benefit_seq;
+INSERT INTO discount_benefit_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM discount_benefit;
+
+CREATE TABLE IF NOT EXISTS point_benefit_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM point_benefit_seq;
+INSERT INTO point_benefit_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM point_benefit;
+
+CREATE TABLE IF NOT EXISTS cashback_benefit_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM cashback_benefit_seq;
+INSERT INTO cashback_benefit_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM cashback_benefit;
+
+CREATE TABLE IF NOT EXISTS user_benefit_usage_seq (next_val BIGINT) ENGINE = InnoDB;
+DELETE FROM user_benefit_usage_seq;
+INSERT INTO user_benefit_usage_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM user_benefit_usage;
@@ -0,0 +1,39 @@
+package com.example.demo.benefit.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MerchantMatcherTest {
+
+    @Test
+    public void testMatchBrandInsidePlaceName() {
+        Map<String, long[]> targets = new LinkedHashMap<>();
+        targets.put("스타벅스", new long[]{1L});
+        targets.put("벅스", new long[]{2L});
+        targets.put("cu", new long[]{3L, 4L});
+        targets.put("gs25", new long[]{5L});
+
+        MerchantMatcher matcher = MerchantMatcher.compile(targets);
+
+        // 지점명이 붙은 매장명 + 접미 패턴(실패 링크) 매칭
+        assertArrayEquals(new long[]{1L, 2L}, matcher.match("스타벅스 강남역점"));
+        // 정규화 (공백/대소문자)
+        assertArrayEquals(new long[]{3L, 4L}, matcher.match("C U 역삼점"));
+        // 중복 제거
+        assertArrayEquals(new long[]{5L}, matcher.match("GS25 gs25"));
+        assertEquals(0, matcher.match("이디야커피").length);
+        assertEquals(0, matcher.match(null).length);
+    }
+
+    @Test
+    public void testEmptyMatcher() {
+        MerchantMatcher matcher = MerchantMatcher.compile(Map.of());
+
+        assertEquals(1, matcher.nodeCount());
+        assertEquals(0, matcher.match("스타벅스").length);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.store.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KakaoCallGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private KakaoCallGuard guard;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new KakaoCallGuard(meterRegistry, 50, Duration.ofSeconds(1), Duration.ofSeconds(30),
+                Duration.ofMillis(100), 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    public void testMissWithoutStaleRunsOnRequestThread() {
+        Thread requestThread = Thread.currentThread();
+
+        String result = guard.executeWithStaleFallback(
+                () -> Thread.currentThread() == requestThread ? "fresh" : "pooled",
+                Optional::empty);
+
+        assertEquals("fresh", result);
+    }
+
+    @Test
+    public void testMissesAreNotLimitedByRefreshPool() throws Exception {
+        // 재검증 풀(2개)보다 많은 동시 미스도 모두 동시에 진행되어야 한다
+        int concurrency = 10;
+        CountDownLatch allStarted = new CountDownLatch(concurrency);
+        ExecutorService requests = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                results.add(requests.submit(() -> guard.executeWithStaleFallback(() -> {
+                    allStarted.countDown();
+                    try {
+                        return allStarted.await(2, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }, Optional::empty)));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            requests.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMissWithoutStaleRethrowsFailure() {
+        assertThrows(IllegalStateException.class, () -> guard.executeWithStaleFallback(
+                () -> {
+                    throw new IllegalStateException("카카오 오류");
+                },
+                Optional::empty));
+        assertEquals(1.0, meterRegistry.counter("kakao.api.fallback", "outcome", "miss").count());
+    }
+
+    @Test
+    public void testSlowCallServesStale() {
+        String result = guard.executeWithStaleFallback(
+                () -> {
+                    sleep(500);
+                    return "fresh";
+                },
+                () -> Optional.of("stale"));
+
+        assertEquals("stale", result);
+        assertEquals(1.0, meterRegistry.counter("kakao.api.fallback", "outcome", "slow").count());
+    }
+
+    @Test
+    public void testOpenCircuitServesStaleOrFails() {
+        for (int i = 0; i < 10; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.execute(() -> {
+                throw new IllegalStateException("카카오 오류");
+            }));
+        }
+
+        // 서킷이 열리면 실제 호출 없이 대체 응답
+        String result = guard.executeWithStaleFallback(
+                () -> guard.execute(() -> "fresh"),
+                () -> Optional.of("stale"));
+        assertEquals("stale", result);
+        assertEquals(1.0, meterRegistry.counter("kakao.api.fallback", "outcome", "circuit_open").count());
+
+        // 대체 응답이 없으면 차단 예외 그대로
+        assertThrows(CallNotPermittedException.class, () -> guard.executeWithStaleFallback(
+                () -> guard.execute(() -> "fresh"),
+                Optional::empty));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.store.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.example.demo.store.util.GeoDistance;
+import com.example.demo.store.util.GeoHash;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KakaoMapServiceTest {
+
+    private static final double LAT = 37.4979;
+    private static final double LNG = 127.0276;
+
+    @Test
+    public void testCoveringTilesStartsWithOwnTile() {
+        String tile = GeoHash.encode(LAT, LNG, 7);
+
+        assertEquals(List.of(tile), KakaoMapService.coveringTiles(tile, LAT, LNG, 0));
+
+        List<String> all = KakaoMapService.coveringTiles(tile, LAT, LNG, 10_000);
+        assertEquals(9, all.size());
+        assertEquals(tile, all.get(0));
+        assertTrue(all.containsAll(Arrays.asList(GeoHash.neighbours(tile))));
+    }
+
+    @Test
+    public void testCoveringTilesKeepsOnlyNeighboursWithinMargin() {
+        String tile = GeoHash.encode(LAT, LNG, 7);
+        double margin = 2 * GeoHash.diagonalMeters(tile);
+
+        List<String> tiles = KakaoMapService.coveringTiles(tile, LAT, LNG, margin);
+        for (String candidate : tiles.subList(1, tiles.size())) {
+            double[] center = GeoHash.center(candidate);
+            assertTrue(GeoDistance.meters(LAT, LNG, center[0], center[1]) <= margin);
+        }
+    }
+}
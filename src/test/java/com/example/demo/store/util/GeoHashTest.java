@@ -0,0 +1,42 @@
+package com.example.demo.store.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeoHashTest {
+
+    @Test
+    public void testEncode() {
+        assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        assertEquals("u4pruyd", GeoHash.encode(57.64911, 10.40744, 7));
+    }
+
+    @Test
+    public void testNeighbours() {
+        String[] neighbours = GeoHash.neighbours("u4pruyd");
+
+        // 8방향 인접 셀 (북 f, 북동 g, 동 e, 남동 7, 남 6, 남서 3, 서 9, 북서 c)
+        Set<String> expected = Set.of("u4pruyf", "u4pruyg", "u4pruye", "u4pruy7",
+                "u4pruy6", "u4pruy3", "u4pruy9", "u4pruyc");
+        assertEquals(new TreeSet<>(expected), new TreeSet<>(Arrays.asList(neighbours)));
+    }
+
+    @Test
+    public void testNeighboursAreAdjacentCells() {
+        String hash = GeoHash.encode(37.4979, 127.0276, 7);
+        double[] center = GeoHash.center(hash);
+        double diagonal = GeoHash.diagonalMeters(hash);
+
+        for (String neighbour : GeoHash.neighbours(hash)) {
+            assertEquals(hash.length(), neighbour.length());
+            assertNotEquals(hash, neighbour);
+            double[] neighbourCenter = GeoHash.center(neighbour);
+            assertTrue(GeoDistance.meters(center[0], center[1], neighbourCenter[0], neighbourCenter[1]) <= diagonal * 1.01);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.store.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialGridTest {
+
+    // 강남역 기준, 경도 0.001도 ≈ 88m (위도 37.5)
+    private static final double LAT = 37.4979;
+    private static final double LNG = 127.0276;
+
+    @Test
+    public void testWithinFiltersByDistanceAcrossCells() {
+        SpatialGrid<String> grid = new SpatialGrid<>(500);
+        grid.put("near", LAT, LNG + 0.001, "near");      // ~88m
+        grid.put("edge", LAT, LNG + 0.011, "edge");      // ~970m (다른 셀)
+        grid.put("far", LAT, LNG + 0.03, "far");         // ~2.6km
+
+        List<String> within = grid.within(LAT, LNG, 1000);
+
+        assertEquals(2, within.size());
+        assertTrue(within.containsAll(List.of("near", "edge")));
+        assertEquals(List.of("near"), grid.within(LAT, LNG, 100));
+        assertEquals(3, grid.size());
+    }
+
+    @Test
+    public void testPutSameIdMovesPoint() {
+        SpatialGrid<String> grid = new SpatialGrid<>(500);
+        grid.put("store", LAT, LNG, "before");
+        grid.put("store", LAT, LNG + 0.03, "after");
+
+        assertTrue(grid.within(LAT, LNG, 500).isEmpty());
+        assertEquals(List.of("after"), grid.within(LAT, LNG + 0.03, 500));
+        assertEquals(1, grid.size());
+    }
+}
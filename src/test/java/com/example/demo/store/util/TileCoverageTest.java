@@ -0,0 +1,51 @@
+package com.example.demo.store.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.demo.store.dto.KakaoPlace;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TileCoverageTest {
+
+    private static final double LAT = 37.4979;
+    private static final double LNG = 127.0276;
+    private static final double METERS_PER_LNG_DEGREE = GeoDistance.meters(LAT, LNG, LAT, LNG + 1);
+
+    @Test
+    public void testSparseResultCoversFetchRadius() {
+        List<KakaoPlace> places = placesEast(3, 100);
+        TileCoverage coverage = TileCoverage.of(LAT, LNG, 2400, places, 15);
+
+        assertEquals(2400, coverage.radiusMeters(), 1e-6);
+        // 여유 반경(400m) 안에서 움직인 요청은 2km 반경 전체가 포함
+        assertTrue(coverage.answers(LAT, LNG + 300 / METERS_PER_LNG_DEGREE, 2000, places, 15));
+        assertFalse(coverage.answers(LAT, LNG + 600 / METERS_PER_LNG_DEGREE, 2000, places, 15));
+    }
+
+    @Test
+    public void testFullPageCoversOnlyUpToFarthestResult() {
+        // 20m 간격 15개 -> 가장 먼 결과 300m 까지만 덮음
+        List<KakaoPlace> places = placesEast(15, 20);
+        TileCoverage coverage = TileCoverage.of(LAT, LNG, 2400, places, 15);
+
+        assertEquals(300, coverage.radiusMeters(), 1.0);
+        assertTrue(coverage.answers(LAT, LNG, 2000, places, 15));
+        // 400m 떨어진 요청은 덮는 범위 밖 (다른 지점 주변 매장을 돌려주지 않도록 미스 처리)
+        assertFalse(coverage.answers(LAT, LNG - 400 / METERS_PER_LNG_DEGREE, 2000, places, 15));
+        // 조금만 움직여도 남는 반경 안에 15개가 다 들어오지 않으면 미스
+        assertFalse(coverage.answers(LAT, LNG - 50 / METERS_PER_LNG_DEGREE, 2000, places, 15));
+    }
+
+    private static List<KakaoPlace> placesEast(int count, double stepMeters) {
+        List<KakaoPlace> places = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            double lng = LNG + i * stepMeters / METERS_PER_LNG_DEGREE;
+            places.add(new KakaoPlace(String.valueOf(i), "매장" + i, "CE7", lng, LAT, (int) (i * stepMeters)));
+        }
+        return places;
+    }
+}